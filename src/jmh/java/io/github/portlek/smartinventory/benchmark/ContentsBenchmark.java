@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.util.Pattern;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a benchmark for the writes of {@link InventoryContents} to a viewed inventory.
+ * <p>
+ * every invocation alternates the icons, so the renderer has to push the slots instead of skipping them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContentsBenchmark {
+
+  /**
+   * the online player count.
+   */
+  @Param({"1", "100", "1000"})
+  public int players;
+
+  /**
+   * the contents.
+   */
+  private InventoryContents contents;
+
+  /**
+   * the second icon.
+   */
+  private Icon dirt;
+
+  /**
+   * the invocation count.
+   */
+  private int invocations;
+
+  /**
+   * the pattern with the first icons.
+   */
+  private Pattern<Icon> pattern;
+
+  /**
+   * the pattern with the second icons.
+   */
+  private Pattern<Icon> patternOther;
+
+  /**
+   * the first icon.
+   */
+  private Icon stone;
+
+  /**
+   * fills the whole contents.
+   *
+   * @return the contents.
+   */
+  @Benchmark
+  public InventoryContents fill() {
+    return this.contents.fill(this.next());
+  }
+
+  /**
+   * fills the borders of the contents.
+   *
+   * @return the contents.
+   */
+  @Benchmark
+  public InventoryContents fillBorders() {
+    return this.contents.fillBorders(this.next());
+  }
+
+  /**
+   * fills the contents with a repeating pattern.
+   *
+   * @return the contents.
+   */
+  @Benchmark
+  public InventoryContents fillPatternRepeating() {
+    return this.contents.fillPatternRepeating((this.invocations++ & 1) == 0 ? this.pattern : this.patternOther);
+  }
+
+  /**
+   * sets a single slot, walking over all the slots.
+   *
+   * @return the contents.
+   */
+  @Benchmark
+  public InventoryContents set() {
+    final var slot = this.invocations % (Fixtures.ROWS * Fixtures.COLUMNS);
+    final var icon = (this.invocations / (Fixtures.ROWS * Fixtures.COLUMNS) & 1) == 0 ? this.stone : this.dirt;
+    this.invocations++;
+    return this.contents.set(slot, icon);
+  }
+
+  /**
+   * prepares the contents.
+   */
+  @Setup
+  public void setup() {
+    this.contents = Fixtures.contents(this.players);
+    this.stone = Fixtures.icon(Material.STONE);
+    this.dirt = Fixtures.icon(Material.DIRT);
+    this.pattern = new Pattern<Icon>(true, "xo", "ox")
+      .attach('x', this.stone)
+      .attach('o', this.dirt);
+    this.patternOther = new Pattern<Icon>(true, "xo", "ox")
+      .attach('x', this.dirt)
+      .attach('o', this.stone);
+  }
+
+  /**
+   * obtains the next icon to write.
+   *
+   * @return the icon.
+   */
+  private Icon next() {
+    return (this.invocations++ & 1) == 0 ? this.stone : this.dirt;
+  }
+}
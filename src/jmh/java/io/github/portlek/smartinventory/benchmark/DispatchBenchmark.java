@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.Handle;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.event.PgTickEvent;
+import io.github.portlek.smartinventory.event.abs.CloseEvent;
+import io.github.portlek.smartinventory.event.abs.InitEvent;
+import io.github.portlek.smartinventory.event.abs.OpenEvent;
+import io.github.portlek.smartinventory.event.abs.PageEvent;
+import io.github.portlek.smartinventory.event.abs.TickEvent;
+import io.github.portlek.smartinventory.event.abs.UpdateEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a benchmark for dispatching a tick event to a page that has 20 handles of 5 different types.
+ * <p>
+ * {@link #legacy()} is the stream based dispatch that the pages used before the dispatch tables, kept as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DispatchBenchmark {
+
+  /**
+   * the handle count.
+   */
+  private static final int HANDLES = 20;
+
+  /**
+   * the event to dispatch.
+   */
+  private PgTickEvent event;
+
+  /**
+   * the handled event count.
+   */
+  private long handled;
+
+  /**
+   * the handles of the legacy dispatch.
+   */
+  private Collection<Handle<? extends PageEvent>> handles;
+
+  /**
+   * the page.
+   */
+  private Page page;
+
+  /**
+   * dispatches the event by streaming over all the handles.
+   *
+   * @return the handled event count.
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public long legacy() {
+    this.handles.stream()
+      .filter(handle -> handle.type().isAssignableFrom(this.event.getClass()))
+      .map(handle -> (Handle<PgTickEvent>) handle)
+      .forEach(handle -> handle.accept(this.event));
+    return this.handled;
+  }
+
+  /**
+   * dispatches the event through the dispatch table of the page.
+   *
+   * @return the handled event count.
+   */
+  @Benchmark
+  public long table() {
+    this.page.accept(this.event);
+    return this.handled;
+  }
+
+  /**
+   * prepares the page and the handles.
+   */
+  @Setup
+  public void setup() {
+    this.page = Fixtures.page();
+    this.event = new PgTickEvent(Fixtures.contents(1));
+    final List<Class<? extends PageEvent>> types = List.of(TickEvent.class, OpenEvent.class, CloseEvent.class,
+      InitEvent.class, UpdateEvent.class);
+    this.handles = new ArrayList<>(DispatchBenchmark.HANDLES);
+    for (var index = 0; index < DispatchBenchmark.HANDLES; index++) {
+      final var handle = this.counting(types.get(index % types.size()));
+      this.handles.add(handle);
+      this.page.handle(handle);
+    }
+  }
+
+  /**
+   * creates a handle that counts the handled events.
+   *
+   * @param type the type of the events to handle.
+   * @param <T> type of the events.
+   *
+   * @return a new handle.
+   */
+  private <T extends PageEvent> Handle<T> counting(final Class<T> type) {
+    return Handle.from(type, event -> this.handled++);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
+import io.github.portlek.smartinventory.fake.FakeInventory;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import org.bukkit.Material;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that builds the shared fixtures of the benchmarks.
+ */
+public final class Fixtures {
+
+  /**
+   * the column count of the fixture pages.
+   */
+  public static final int COLUMNS = 9;
+
+  /**
+   * the row count of the fixture pages.
+   */
+  public static final int ROWS = 6;
+
+  /**
+   * ctor.
+   */
+  private Fixtures() {
+  }
+
+  /**
+   * creates viewed contents of a 6x9 page whose player has a fake chest open.
+   * <p>
+   * the other players only join the server, so they show how the contents scale with the online player count.
+   *
+   * @param players the online player count, at least 1.
+   *
+   * @return a new contents instance.
+   */
+  @NotNull
+  public static InventoryContents contents(final int players) {
+    final var server = FakeServer.install();
+    server.clear();
+    final var viewer = server.join("viewer");
+    for (var index = 1; index < players; index++) {
+      server.join("player-" + index);
+    }
+    viewer.open(new FakeInventory(null, Fixtures.ROWS * Fixtures.COLUMNS, InventoryType.CHEST).getInventory());
+    final var page = Fixtures.page();
+    final var contents = new BasicInventoryContents(page, viewer.getPlayer());
+    contents.setViewed(true);
+    return contents;
+  }
+
+  /**
+   * creates an icon of the given material.
+   *
+   * @param material the material to create.
+   *
+   * @return a new icon.
+   */
+  @NotNull
+  public static Icon icon(@NotNull final Material material) {
+    return Icon.from(new ItemStack(material));
+  }
+
+  /**
+   * creates a 6x9 page.
+   *
+   * @return a new page.
+   */
+  @NotNull
+  public static Page page() {
+    return Page.build(new BasicSmartInventory(FakeServer.install().getPlugin()))
+      .row(Fixtures.ROWS)
+      .column(Fixtures.COLUMNS);
+  }
+}
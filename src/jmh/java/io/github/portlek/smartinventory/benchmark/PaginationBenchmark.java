@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.Pagination;
+import io.github.portlek.smartinventory.content.BasicPagination;
+import io.github.portlek.smartinventory.content.LazyPagination;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a benchmark for turning the pages of the eager and the lazy {@link Pagination}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PaginationBenchmark {
+
+  /**
+   * the icon count per page.
+   */
+  private static final int ICONS_PER_PAGE = 28;
+
+  /**
+   * the total icon count.
+   */
+  @Param({"10", "1000", "100000"})
+  public int icons;
+
+  /**
+   * the eager pagination.
+   */
+  private Pagination basic;
+
+  /**
+   * the lazy pagination.
+   */
+  private Pagination lazy;
+
+  /**
+   * turns the eager pagination to the next page and obtains its icons.
+   *
+   * @return the page icons.
+   */
+  @Benchmark
+  public Icon[] basicNext() {
+    return PaginationBenchmark.turn(this.basic);
+  }
+
+  /**
+   * turns the lazy pagination to the next page and obtains its icons.
+   *
+   * @return the page icons.
+   */
+  @Benchmark
+  public Icon[] lazyNext() {
+    return PaginationBenchmark.turn(this.lazy);
+  }
+
+  /**
+   * prepares the paginations.
+   */
+  @Setup
+  public void setup() {
+    FakeServer.install();
+    final var all = new Icon[this.icons];
+    final var materials = new Material[]{Material.STONE, Material.DIRT, Material.SAND};
+    for (var index = 0; index < all.length; index++) {
+      all[index] = Fixtures.icon(materials[index % materials.length]);
+    }
+    this.basic = new BasicPagination()
+      .setIconsPerPage(PaginationBenchmark.ICONS_PER_PAGE)
+      .setIcons(all);
+    final List<Icon> source = Arrays.asList(all);
+    this.lazy = new LazyPagination<Icon>(() -> all.length,
+      (offset, limit) -> source.subList(offset, Math.min(all.length, offset + limit)), icon -> icon)
+      .setIconsPerPage(PaginationBenchmark.ICONS_PER_PAGE);
+  }
+
+  /**
+   * turns the given pagination to the next page, or the first page if it is on the last one.
+   *
+   * @param pagination the pagination to turn.
+   *
+   * @return the page icons.
+   */
+  private static Icon[] turn(final Pagination pagination) {
+    if (pagination.isLast()) {
+      pagination.first();
+    } else {
+      pagination.next();
+    }
+    return pagination.getPageIcons();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.util.CompiledPattern;
+import io.github.portlek.smartinventory.util.Pattern;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a benchmark for the lookups of a {@link Pattern}, walking over all the slots of a 6x9 page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PatternBenchmark {
+
+  /**
+   * the slot count.
+   */
+  private static final int SLOTS = Fixtures.ROWS * Fixtures.COLUMNS;
+
+  /**
+   * the compiled pattern.
+   */
+  private CompiledPattern<String> compiled;
+
+  /**
+   * the pattern.
+   */
+  private Pattern<String> pattern;
+
+  /**
+   * the current slot.
+   */
+  private int slot;
+
+  /**
+   * obtains the object of the next slot from the compiled pattern.
+   *
+   * @return the object.
+   */
+  @Benchmark
+  public String compiled() {
+    final var current = this.slot;
+    this.slot = (current + 1) % PatternBenchmark.SLOTS;
+    return this.compiled.getObject(current / Fixtures.COLUMNS, current % Fixtures.COLUMNS);
+  }
+
+  /**
+   * obtains the object of the next slot.
+   *
+   * @return the object.
+   */
+  @Benchmark
+  public Optional<String> getObject() {
+    final var current = this.slot;
+    this.slot = (current + 1) % PatternBenchmark.SLOTS;
+    return this.pattern.getObject(current / Fixtures.COLUMNS, current % Fixtures.COLUMNS);
+  }
+
+  /**
+   * prepares the pattern.
+   */
+  @Setup
+  public void setup() {
+    this.pattern = new Pattern<String>(true, "xoxoxoxox", "oyoyoyoyo", "xoxoxoxox")
+      .attach('x', "x")
+      .attach('o', "o")
+      .attach('y', "y")
+      .setDefault("none");
+    this.compiled = this.pattern.compile();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.util.SlotPos;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a benchmark for the searches of {@link InventoryContents}, the searched slots are the last ones to scan.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SearchBenchmark {
+
+  /**
+   * the last slot.
+   */
+  private static final int LAST = Fixtures.ROWS * Fixtures.COLUMNS - 1;
+
+  /**
+   * the contents.
+   */
+  private InventoryContents contents;
+
+  /**
+   * the diamond item.
+   */
+  private ItemStack diamond;
+
+  /**
+   * the gold icon.
+   */
+  private Icon gold;
+
+  /**
+   * the gold item.
+   */
+  private ItemStack goldItem;
+
+  /**
+   * finds the first empty slot.
+   *
+   * @return the empty slot.
+   */
+  @Benchmark
+  public Optional<SlotPos> firstEmpty() {
+    return this.contents.firstEmpty();
+  }
+
+  /**
+   * finds the diamond.
+   *
+   * @return the slot of the diamond.
+   */
+  @Benchmark
+  public Optional<SlotPos> findItem() {
+    return this.contents.findItem(this.diamond);
+  }
+
+  /**
+   * removes the gold and puts it back.
+   *
+   * @return the contents.
+   */
+  @Benchmark
+  public InventoryContents removeAmount() {
+    this.contents.removeAmount(this.goldItem, 1);
+    return this.contents.set(SearchBenchmark.LAST - 1, this.gold);
+  }
+
+  /**
+   * prepares the contents.
+   */
+  @Setup
+  public void setup() {
+    this.contents = Fixtures.contents(1);
+    this.diamond = new ItemStack(Material.DIAMOND);
+    this.goldItem = new ItemStack(Material.GOLD_INGOT);
+    this.gold = Icon.from(this.goldItem);
+    this.contents.fill(Fixtures.icon(Material.STONE));
+    this.contents.set(SearchBenchmark.LAST - 2, Icon.from(this.diamond));
+    this.contents.set(SearchBenchmark.LAST - 1, this.gold);
+    this.contents.set(SearchBenchmark.LAST, null);
+  }
+}
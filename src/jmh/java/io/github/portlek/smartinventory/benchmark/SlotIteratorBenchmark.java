@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.util.Pattern;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * a benchmark for the full traversals of the {@link SlotIterator}s over a 6x9 page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SlotIteratorBenchmark {
+
+  /**
+   * the contents.
+   */
+  private InventoryContents contents;
+
+  /**
+   * the iterator that skips the borders through a pattern.
+   */
+  private SlotIterator inner;
+
+  /**
+   * the pattern that skips the borders.
+   */
+  private Pattern<Boolean> pattern;
+
+  /**
+   * the iterator that visits all the slots.
+   */
+  private SlotIterator plain;
+
+  /**
+   * creates a new iterator that skips the borders and traverses it, as the pages do on every open.
+   * <p>
+   * the traversal plan comes from the page's cache, so only the iterator is created.
+   *
+   * @return the visited slot count.
+   */
+  @Benchmark
+  public int fresh() {
+    return SlotIteratorBenchmark.traverse(this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 1, 1)
+      .withPattern(this.pattern));
+  }
+
+  /**
+   * traverses the inner slots.
+   *
+   * @return the visited slot count.
+   */
+  @Benchmark
+  public int inner() {
+    return SlotIteratorBenchmark.traverse(this.inner);
+  }
+
+  /**
+   * traverses all the slots.
+   *
+   * @return the visited slot count.
+   */
+  @Benchmark
+  public int plain() {
+    return SlotIteratorBenchmark.traverse(this.plain);
+  }
+
+  /**
+   * prepares the iterators.
+   */
+  @Setup
+  public void setup() {
+    this.contents = Fixtures.contents(1);
+    this.pattern = new Pattern<Boolean>(
+      "ooooooooo",
+      "oxxxxxxxo",
+      "oxxxxxxxo",
+      "oxxxxxxxo",
+      "oxxxxxxxo",
+      "ooooooooo")
+      .attach('x', true)
+      .attach('o', false);
+    this.plain = this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 0, 0);
+    this.inner = this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 1, 1)
+      .withPattern(this.pattern);
+  }
+
+  /**
+   * traverses the given iterator from its start to its end.
+   *
+   * @param iterator the iterator to traverse.
+   *
+   * @return the visited slot count.
+   */
+  private static int traverse(final SlotIterator iterator) {
+    iterator.reset();
+    var visited = 0;
+    while (!iterator.ended()) {
+      iterator.next();
+      visited++;
+    }
+    return visited;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.util.SlotPos;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a benchmark for the slot position lookups of a 6x9 page.
+ * <p>
+ * run it with {@code -prof gc} to see that the lookups do not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SlotPosBenchmark {
+
+  /**
+   * the contents whose every other slot is editable.
+   */
+  private InventoryContents contents;
+
+  /**
+   * obtains the position of every slot and lets them escape.
+   *
+   * @param blackhole the blackhole to consume.
+   */
+  @Benchmark
+  public void positions(final Blackhole blackhole) {
+    for (var row = 0; row < Fixtures.ROWS; row++) {
+      for (var column = 0; column < Fixtures.COLUMNS; column++) {
+        blackhole.consume(SlotPos.of(row, column));
+      }
+    }
+  }
+
+  /**
+   * resolves every raw slot to its position and editable state, as the click and drag listeners do.
+   *
+   * @return the editable slot count.
+   */
+  @Benchmark
+  public int resolve() {
+    var editable = 0;
+    for (var slot = 0; slot < Fixtures.ROWS * Fixtures.COLUMNS; slot++) {
+      if (this.contents.isEditable(SlotPos.row(slot), SlotPos.column(slot))) {
+        editable++;
+      }
+    }
+    return editable;
+  }
+
+  /**
+   * prepares the contents.
+   */
+  @Setup
+  public void setup() {
+    this.contents = Fixtures.contents(1);
+    for (var slot = 0; slot < Fixtures.ROWS * Fixtures.COLUMNS; slot += 2) {
+      this.contents.setEditable(SlotPos.of(slot), true);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.benchmark;
+
+import io.github.portlek.observer.Source;
+import io.github.portlek.observer.Target;
+import io.github.portlek.observer.source.BasicSource;
+import io.github.portlek.observer.source.CopyOnWriteSource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * a benchmark for notifying the targets of a {@link Source}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SourceBenchmark {
+
+  /**
+   * the target count.
+   */
+  @Param({"1", "16"})
+  public int targets;
+
+  /**
+   * the list based source.
+   */
+  private Source<Object> basic;
+
+  /**
+   * the blackhole that the targets consume the argument.
+   */
+  private Blackhole blackhole;
+
+  /**
+   * the copy-on-write source.
+   */
+  private Source<Object> copyOnWrite;
+
+  /**
+   * the copy-on-write source in the weak mode.
+   */
+  private Source<Object> weak;
+
+  /**
+   * the strong references of the targets of the weak source.
+   */
+  private Target<Object>[] weakTargets;
+
+  /**
+   * notifies the targets of the list based source.
+   */
+  @Benchmark
+  public void basic() {
+    this.basic.notifyTargets(this);
+  }
+
+  /**
+   * notifies the targets of the copy-on-write source.
+   */
+  @Benchmark
+  public void copyOnWrite() {
+    this.copyOnWrite.notifyTargets(this);
+  }
+
+  /**
+   * prepares the sources.
+   *
+   * @param blackhole the blackhole.
+   */
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup(final Blackhole blackhole) {
+    this.blackhole = blackhole;
+    this.basic = new BasicSource<>();
+    this.copyOnWrite = new CopyOnWriteSource<>();
+    this.weak = new CopyOnWriteSource<>(true);
+    this.weakTargets = new Target[this.targets];
+    for (var index = 0; index < this.targets; index++) {
+      final Target<Object> target = argument -> this.blackhole.consume(argument);
+      this.basic.subscribe(target);
+      this.copyOnWrite.subscribe(target);
+      this.weak.subscribe(target);
+      this.weakTargets[index] = target;
+    }
+  }
+
+  /**
+   * notifies the targets of the weak copy-on-write source.
+   */
+  @Benchmark
+  public void weak() {
+    this.weak.notifyTargets(this);
+  }
+}
@@ -0,0 +1,296 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.load;
+
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.bukkit.Material;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a load driver that replays a random mix of the player operations against a shop page on the fake server, and
+ * reports the throughput, the p50/p99 handler latencies and the allocations per operation.
+ * <p>
+ * the arguments are {@code key=value} pairs, the keys and their defaults are:
+ * <ul>
+ *   <li>{@code players=1000}, the simulated player count.</li>
+ *   <li>{@code operations=200000}, the recorded operation count.</li>
+ *   <li>{@code warmup=50000}, the operation count to run before the recording.</li>
+ *   <li>{@code mix=open:5,click:60,drag:10,page:15,close:10}, the weights of the operations.</li>
+ *   <li>{@code tick-every=100}, the operation count between two server ticks.</li>
+ *   <li>{@code products=1000}, the product count of the shop.</li>
+ *   <li>{@code seed=42}, the seed of the random.</li>
+ *   <li>{@code metrics=false}, enables the metrics of the library and prints them after the run.</li>
+ * </ul>
+ * the players that do not view the shop open it, whatever the picked operation is.
+ */
+public final class LoadDriver {
+
+  /**
+   * the default arguments.
+   */
+  private static final Map<String, String> DEFAULTS = Map.of(
+    "players", "1000",
+    "operations", "200000",
+    "warmup", "50000",
+    "mix", "open:5,click:60,drag:10,page:15,close:10",
+    "tick-every", "100",
+    "products", "1000",
+    "seed", "42",
+    "metrics", "false");
+
+  /**
+   * the dragged item.
+   */
+  @NotNull
+  private final ItemStack dragged = new ItemStack(Material.DIRT);
+
+  /**
+   * the inventory.
+   */
+  @NotNull
+  private final SmartInventory inventory;
+
+  /**
+   * the operations of the mix, picked by the weight index.
+   */
+  @NotNull
+  private final LoadOperation[] mix;
+
+  /**
+   * the page.
+   */
+  @NotNull
+  private final Page page;
+
+  /**
+   * the players.
+   */
+  @NotNull
+  private final FakePlayer[] players;
+
+  /**
+   * the provider.
+   */
+  @NotNull
+  private final ShopProvider provider;
+
+  /**
+   * the random.
+   */
+  @NotNull
+  private final SplittableRandom random;
+
+  /**
+   * the server.
+   */
+  @NotNull
+  private final FakeServer server;
+
+  /**
+   * the operation count between two server ticks.
+   */
+  private final int tickEvery;
+
+  /**
+   * the executed operation count.
+   */
+  private long executed;
+
+  /**
+   * ctor.
+   *
+   * @param settings the settings.
+   */
+  public LoadDriver(@NotNull final Map<String, String> settings) {
+    this.server = FakeServer.install();
+    this.server.clear();
+    this.inventory = new BasicSmartInventory(this.server.getPlugin());
+    this.inventory.init();
+    this.inventory.metrics().setEnabled(Boolean.parseBoolean(settings.get("metrics")));
+    this.provider = new ShopProvider(Integer.parseInt(settings.get("products")));
+    this.page = Page.build(this.inventory, this.provider)
+      .id("shop")
+      .title("Shop")
+      .row(6)
+      .paginateInPlace(true);
+    this.players = new FakePlayer[Integer.parseInt(settings.get("players"))];
+    for (var index = 0; index < this.players.length; index++) {
+      this.players[index] = this.server.join("player-" + index);
+    }
+    this.mix = LoadDriver.parseMix(settings.get("mix"));
+    this.random = new SplittableRandom(Long.parseLong(settings.get("seed")));
+    this.tickEvery = Math.max(1, Integer.parseInt(settings.get("tick-every")));
+  }
+
+  /**
+   * runs the load driver.
+   *
+   * @param args the {@code key=value} arguments.
+   */
+  public static void main(final String[] args) {
+    final var settings = new HashMap<>(LoadDriver.DEFAULTS);
+    for (final var arg : args) {
+      final var split = arg.split("=", 2);
+      if (split.length != 2 || !LoadDriver.DEFAULTS.containsKey(split[0])) {
+        throw new IllegalArgumentException(String.format("Unknown argument %s, the known keys are %s.", arg,
+          LoadDriver.DEFAULTS.keySet()));
+      }
+      settings.put(split[0], split[1]);
+    }
+    final var driver = new LoadDriver(settings);
+    driver.run(Integer.parseInt(settings.get("warmup")), null);
+    driver.inventory.metrics().reset();
+    final var operations = Integer.parseInt(settings.get("operations"));
+    final var recorder = new LoadRecorder(operations);
+    final var start = System.nanoTime();
+    driver.run(operations, recorder);
+    final var wall = System.nanoTime() - start;
+    System.out.printf("settings: %s%n", settings);
+    recorder.report(System.out, wall);
+    System.out.printf("sold: %d, open sessions: %d, scheduled tasks: %d%n", driver.provider.getSold(),
+      driver.inventory.getSessions().all().size(), driver.server.getScheduler().size());
+    if (driver.inventory.metrics().isEnabled()) {
+      driver.inventory.metrics().snapshot().forEach((page, snapshots) -> snapshots.forEach((operation, snapshot) ->
+        System.out.printf("metrics: %s %-6s count=%d mean=%.2fus p50<=%.2fus p99<=%.2fus%n", page,
+          operation.name().toLowerCase(Locale.ROOT), snapshot.getCount(), snapshot.mean() / 1_000.0d,
+          snapshot.percentile(0.50) / 1_000.0d, snapshot.percentile(0.99) / 1_000.0d)));
+    }
+    driver.close();
+  }
+
+  /**
+   * parses the weights of the operations.
+   *
+   * @param mix the mix to parse, such as {@code open:5,click:60}.
+   *
+   * @return the operations, each one repeated by its weight.
+   */
+  @NotNull
+  private static LoadOperation[] parseMix(@NotNull final String mix) {
+    final var weights = new EnumMap<LoadOperation, Integer>(LoadOperation.class);
+    for (final var entry : mix.split(",")) {
+      final var split = entry.split(":", 2);
+      final var operation = LoadOperation.valueOf(split[0].trim().toUpperCase(Locale.ROOT));
+      if (operation == LoadOperation.TICK) {
+        throw new IllegalArgumentException("The ticks are not part of the mix, use tick-every instead.");
+      }
+      weights.put(operation, Integer.parseInt(split[1].trim()));
+    }
+    final var total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    if (total <= 0) {
+      throw new IllegalArgumentException(String.format("The mix %s has no weight.", mix));
+    }
+    final var operations = new LoadOperation[total];
+    var index = 0;
+    for (final var entry : weights.entrySet()) {
+      for (var weight = 0; weight < entry.getValue(); weight++) {
+        operations[index++] = entry.getKey();
+      }
+    }
+    return operations;
+  }
+
+  /**
+   * closes the pages of all the players and quits them.
+   */
+  public void close() {
+    for (final var player : this.players) {
+      player.quit();
+    }
+    this.server.tick();
+  }
+
+  /**
+   * runs the given count of operations.
+   *
+   * @param operations the operation count to run.
+   * @param recorder the recorder, or {@code null} to not record.
+   */
+  public void run(final int operations, final LoadRecorder recorder) {
+    for (var count = 0; count < operations; count++) {
+      final var player = this.players[this.random.nextInt(this.players.length)];
+      final var operation = player.isViewing()
+        ? this.mix[this.random.nextInt(this.mix.length)]
+        : LoadOperation.OPEN;
+      final var bytes = LoadRecorder.allocatedBytes();
+      final var start = System.nanoTime();
+      this.execute(player, operation);
+      final var nanos = System.nanoTime() - start;
+      if (recorder != null) {
+        recorder.record(operation, nanos, LoadRecorder.allocatedBytes() - bytes);
+      }
+      if (++this.executed % this.tickEvery == 0) {
+        final var tickBytes = LoadRecorder.allocatedBytes();
+        final var tickStart = System.nanoTime();
+        this.server.tick();
+        final var tickNanos = System.nanoTime() - tickStart;
+        if (recorder != null) {
+          recorder.record(LoadOperation.TICK, tickNanos, LoadRecorder.allocatedBytes() - tickBytes);
+        }
+      }
+    }
+  }
+
+  /**
+   * executes the given operation for the given player.
+   *
+   * @param player the player to execute.
+   * @param operation the operation to execute.
+   */
+  private void execute(@NotNull final FakePlayer player, @NotNull final LoadOperation operation) {
+    switch (operation) {
+      case OPEN:
+        this.page.open(player.getPlayer());
+        break;
+      case CLICK:
+        player.click(this.random.nextInt(54), ClickType.LEFT);
+        break;
+      case DRAG:
+        final var first = this.random.nextInt(54);
+        final var second = (first + 1 + this.random.nextInt(53)) % 54;
+        player.drag(Map.of(first, this.dragged, second, this.dragged));
+        break;
+      case PAGE:
+        player.click(this.random.nextBoolean() ? ShopProvider.NEXT : ShopProvider.PREVIOUS, ClickType.LEFT);
+        break;
+      case CLOSE:
+        player.getPlayer().closeInventory();
+        break;
+      default:
+        throw new IllegalStateException("Unexpected operation " + operation);
+    }
+  }
+}
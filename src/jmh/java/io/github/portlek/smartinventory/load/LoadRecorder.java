@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.load;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that records the latencies and the allocations of the load operations.
+ */
+public final class LoadRecorder {
+
+  /**
+   * the thread bean that measures the allocations, {@code null} if the jvm does not support it.
+   */
+  private static final com.sun.management.ThreadMXBean THREADS = LoadRecorder.threads();
+
+  /**
+   * the allocated bytes by operation.
+   */
+  private final Map<LoadOperation, long[]> allocated = new EnumMap<>(LoadOperation.class);
+
+  /**
+   * the recorded counts by operation.
+   */
+  private final Map<LoadOperation, int[]> counts = new EnumMap<>(LoadOperation.class);
+
+  /**
+   * the latencies by operation in nanoseconds.
+   */
+  private final Map<LoadOperation, long[]> latencies = new EnumMap<>(LoadOperation.class);
+
+  /**
+   * ctor.
+   *
+   * @param capacity the maximum record count per operation.
+   */
+  public LoadRecorder(final int capacity) {
+    for (final var operation : LoadOperation.values()) {
+      this.allocated.put(operation, new long[1]);
+      this.counts.put(operation, new int[1]);
+      this.latencies.put(operation, new long[capacity]);
+    }
+  }
+
+  /**
+   * obtains the bytes that the current thread allocated so far.
+   *
+   * @return the allocated bytes, or {@code 0} if the jvm cannot measure them.
+   */
+  public static long allocatedBytes() {
+    if (LoadRecorder.THREADS == null) {
+      return 0L;
+    }
+    return LoadRecorder.THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * records an operation.
+   *
+   * @param operation the operation to record.
+   * @param nanos the latency in nanoseconds.
+   * @param bytes the allocated bytes.
+   */
+  public void record(@NotNull final LoadOperation operation, final long nanos, final long bytes) {
+    final var count = this.counts.get(operation);
+    final var latencies = this.latencies.get(operation);
+    if (count[0] < latencies.length) {
+      latencies[count[0]] = nanos;
+    }
+    count[0]++;
+    this.allocated.get(operation)[0] += bytes;
+  }
+
+  /**
+   * prints the report.
+   *
+   * @param out the stream to print.
+   * @param wallNanos the wall time of the recorded operations in nanoseconds.
+   */
+  public void report(@NotNull final PrintStream out, final long wallNanos) {
+    var total = 0L;
+    out.printf("%-6s %10s %12s %12s %12s %14s%n", "op", "count", "p50 (us)", "p99 (us)", "max (us)", "alloc (B/op)");
+    for (final var operation : LoadOperation.values()) {
+      final var count = this.counts.get(operation)[0];
+      final var recorded = Math.min(count, this.latencies.get(operation).length);
+      final var sorted = Arrays.copyOf(this.latencies.get(operation), recorded);
+      Arrays.sort(sorted);
+      total += count;
+      out.printf("%-6s %10d %12.2f %12.2f %12.2f %14d%n",
+        operation.name().toLowerCase(Locale.ROOT),
+        count,
+        LoadRecorder.percentile(sorted, recorded, 0.50) / 1_000.0d,
+        LoadRecorder.percentile(sorted, recorded, 0.99) / 1_000.0d,
+        LoadRecorder.percentile(sorted, recorded, 1.0d) / 1_000.0d,
+        count == 0 ? 0L : this.allocated.get(operation)[0] / count);
+    }
+    out.printf("throughput: %.0f ops/s over %.2f s%n", total * 1_000_000_000.0d / wallNanos, wallNanos / 1e9d);
+  }
+
+  /**
+   * obtains the percentile of the given sorted latencies.
+   *
+   * @param sorted the sorted latencies.
+   * @param count the latency count.
+   * @param percentile the percentile, between 0 and 1.
+   *
+   * @return the latency at the percentile.
+   */
+  private static long percentile(@NotNull final long[] sorted, final int count, final double percentile) {
+    if (count == 0) {
+      return 0L;
+    }
+    return sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+  }
+
+  /**
+   * obtains the thread bean that measures the allocations.
+   *
+   * @return the thread bean, or {@code null} if the jvm does not support it.
+   */
+  private static com.sun.management.ThreadMXBean threads() {
+    final var bean = ManagementFactory.getThreadMXBean();
+    if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+      return null;
+    }
+    final var threads = (com.sun.management.ThreadMXBean) bean;
+    if (!threads.isThreadAllocatedMemorySupported()) {
+      return null;
+    }
+    threads.setThreadAllocatedMemoryEnabled(true);
+    return threads;
+  }
+}
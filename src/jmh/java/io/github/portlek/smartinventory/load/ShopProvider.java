@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.load;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.SlotIterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a paginated shop page, that is the typical menu of the plugins that use the library.
+ * <p>
+ * the borders are filled with glass, the products are paginated in the inner slots, the bottom corners turn the pages
+ * and the top middle slot is repainted on every tick.
+ */
+public final class ShopProvider implements InventoryProvider {
+
+  /**
+   * the slot of the next page button.
+   */
+  public static final int NEXT = 53;
+
+  /**
+   * the slot of the previous page button.
+   */
+  public static final int PREVIOUS = 45;
+
+  /**
+   * the product count per page.
+   */
+  private static final int PRODUCTS_PER_PAGE = 28;
+
+  /**
+   * the border icon.
+   */
+  @NotNull
+  private final Icon border = Icon.cancel(new ItemStack(Material.STONE));
+
+  /**
+   * the clock icons that are swapped on every tick.
+   */
+  @NotNull
+  private final Icon[] clock = {
+    Icon.cancel(new ItemStack(Material.DIAMOND)),
+    Icon.cancel(new ItemStack(Material.ARROW))
+  };
+
+  /**
+   * the products.
+   */
+  @NotNull
+  private final Icon[] products;
+
+  /**
+   * the sold product count.
+   */
+  private final LongAdder sold = new LongAdder();
+
+  /**
+   * the tick count.
+   */
+  private final AtomicLong ticks = new AtomicLong();
+
+  /**
+   * ctor.
+   *
+   * @param products the product count.
+   */
+  public ShopProvider(final int products) {
+    this.products = new Icon[products];
+    final var materials = new Material[]{Material.DIRT, Material.SAND, Material.GOLD_INGOT};
+    for (var index = 0; index < products; index++) {
+      final var item = new ItemStack(materials[index % materials.length], 1 + index % 64);
+      this.products[index] = Icon.click(item, event -> {
+        event.cancel();
+        this.sold.increment();
+      });
+    }
+  }
+
+  /**
+   * obtains the sold product count.
+   *
+   * @return the sold product count.
+   */
+  public long getSold() {
+    return this.sold.sum();
+  }
+
+  @Override
+  public void init(@NotNull final InventoryContents contents) {
+    contents.fillBorders(this.border);
+    contents.set(ShopProvider.PREVIOUS, Icon.click(new ItemStack(Material.ARROW), event -> {
+      event.cancel();
+      event.contents().openPrevious();
+    }));
+    contents.set(ShopProvider.NEXT, Icon.click(new ItemStack(Material.ARROW), event -> {
+      event.cancel();
+      event.contents().openNext();
+    }));
+    contents.pagination()
+      .setIconsPerPage(ShopProvider.PRODUCTS_PER_PAGE)
+      .setIcons(this.products)
+      .addToIterator(contents.newIterator(SlotIterator.Type.HORIZONTAL, 1, 1).allowOverride(false));
+  }
+
+  @Override
+  public void tick(@NotNull final InventoryContents contents) {
+    contents.set(0, 4, this.clock[(int) (this.ticks.incrementAndGet() & 1L)]);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.observer;
+
+import io.github.portlek.observer.source.BasicObservable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that holds a value and notifies its {@link Target}s when the value changes.
+ *
+ * @param <T> type of the value.
+ */
+public interface Observable<T> extends Source<T> {
+
+  /**
+   * creates an observable with the given initial value.
+   *
+   * @param value the initial value.
+   * @param <T> type of the value.
+   *
+   * @return a new observable instance.
+   */
+  @NotNull
+  static <T> Observable<T> of(@NotNull final T value) {
+    return new BasicObservable<>(value);
+  }
+
+  /**
+   * obtains the current value.
+   *
+   * @return the current value.
+   */
+  @NotNull
+  T get();
+
+  /**
+   * sets the value and notifies the targets, if the given value is not equal to the current value.
+   * <p>
+   * the targets run on the thread that calls this method, so the targets that touch the server, like the slot
+   * bindings of the inventory contents, have to move their work to the main thread themselves.
+   *
+   * @param value the value to set.
+   */
+  void set(@NotNull T value);
+}
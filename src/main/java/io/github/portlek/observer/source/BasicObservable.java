@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.observer.source;
+
+import io.github.portlek.observer.Observable;
+import io.github.portlek.observer.Target;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an implementation for {@link Observable}.
+ * <p>
+ * the targets are kept in a {@link CopyOnWriteSource}, so the value can be set from any thread.
+ *
+ * @param <T> type of the value.
+ */
+public final class BasicObservable<T> implements Observable<T> {
+
+  /**
+   * the source.
+   */
+  private final CopyOnWriteSource<T> source = new CopyOnWriteSource<>();
+
+  /**
+   * the value.
+   */
+  @NotNull
+  private volatile T value;
+
+  /**
+   * ctor.
+   *
+   * @param value the initial value.
+   */
+  public BasicObservable(@NotNull final T value) {
+    this.value = value;
+  }
+
+  @NotNull
+  @Override
+  public T get() {
+    return this.value;
+  }
+
+  @Override
+  public void notifyTargets(@NotNull final T argument) {
+    this.source.notifyTargets(argument);
+  }
+
+  @Override
+  public void set(@NotNull final T value) {
+    if (Objects.equals(this.value, value)) {
+      return;
+    }
+    this.value = value;
+    this.notifyTargets(value);
+  }
+
+  /**
+   * counts the subscribed targets.
+   *
+   * @return the subscribed target count.
+   */
+  public int size() {
+    return this.source.size();
+  }
+
+  @Override
+  public void subscribe(@NotNull final Target<T> target) {
+    this.source.subscribe(target);
+  }
+
+  @Override
+  public void unsubscribe(@NotNull final Target<T> target) {
+    this.source.unsubscribe(target);
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.observer.source;
+
+import io.github.portlek.observer.Source;
+import io.github.portlek.observer.Target;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a thread-safe implementation for {@link Source} that keeps the subscriptions in a copy-on-write array.
+ * <p>
+ * the subscriptions are compared by identity, and they are swapped with a compare-and-set, so subscribe and
+ * unsubscribe never lock and {@link #notifyTargets(Object)} loops over a snapshot without allocating.
+ * in the weak mode, the targets are held with {@link WeakReference}s and the cleared ones are dropped on the next
+ * change or notification.
+ *
+ * @param <T> type of the argument.
+ */
+public final class CopyOnWriteSource<T> implements Source<T> {
+
+  /**
+   * the empty subscriptions.
+   */
+  private static final Object[] EMPTY = new Object[0];
+
+  /**
+   * the subscriptions, either {@link Target}s or {@link WeakReference}s of them in the weak mode.
+   */
+  private final AtomicReference<Object[]> subscriptions = new AtomicReference<>(CopyOnWriteSource.EMPTY);
+
+  /**
+   * the weak mode.
+   */
+  private final boolean weak;
+
+  /**
+   * ctor.
+   *
+   * @param weak the weak mode, {@code true} to hold the targets with weak references.
+   */
+  public CopyOnWriteSource(final boolean weak) {
+    this.weak = weak;
+  }
+
+  /**
+   * ctor.
+   */
+  public CopyOnWriteSource() {
+    this(false);
+  }
+
+  @Override
+  public void notifyTargets(@NotNull final T argument) {
+    final var current = this.subscriptions.get();
+    var cleared = false;
+    for (final var subscription : current) {
+      final var target = this.resolve(subscription);
+      if (target == null) {
+        cleared = true;
+      } else {
+        target.update(argument);
+      }
+    }
+    if (cleared) {
+      this.change(null, false);
+    }
+  }
+
+  /**
+   * counts the subscribed targets, the cleared weak references are not counted.
+   *
+   * @return the subscribed target count.
+   */
+  public int size() {
+    var size = 0;
+    for (final var subscription : this.subscriptions.get()) {
+      if (this.resolve(subscription) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public void subscribe(@NotNull final Target<T> target) {
+    this.change(target, true);
+  }
+
+  @Override
+  public void unsubscribe(@NotNull final Target<T> target) {
+    this.change(target, false);
+  }
+
+  /**
+   * swaps the subscriptions with a copy that adds or removes the given target and drops the cleared references.
+   *
+   * @param target the target to add or remove, {@code null} to only drop the cleared references.
+   * @param add {@code true} to add the target, {@code false} to remove it.
+   */
+  private void change(@Nullable final Target<T> target, final boolean add) {
+    while (true) {
+      final var current = this.subscriptions.get();
+      final var next = new Object[current.length + 1];
+      var size = 0;
+      var found = false;
+      for (final var subscription : current) {
+        final var resolved = this.resolve(subscription);
+        if (resolved == null) {
+          continue;
+        }
+        if (resolved == target) {
+          found = true;
+          if (!add) {
+            continue;
+          }
+        }
+        next[size++] = subscription;
+      }
+      if (add && !found) {
+        next[size++] = this.weak ? new WeakReference<>(target) : target;
+      } else if (size == current.length) {
+        return;
+      }
+      if (this.subscriptions.compareAndSet(current, size == 0 ? CopyOnWriteSource.EMPTY : Arrays.copyOf(next, size))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * resolves the target of the given subscription.
+   *
+   * @param subscription the subscription to resolve.
+   *
+   * @return the target, or {@code null} if the weak reference was cleared.
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  private Target<T> resolve(@NotNull final Object subscription) {
+    if (subscription instanceof WeakReference<?>) {
+      return ((WeakReference<Target<T>>) subscription).get();
+    }
+    return (Target<T>) subscription;
+  }
+}
@@ -23,6 +23,7 @@
  *
  */
 /**
- * the package that contains {@link io.github.portlek.observer.Source} implementations.
+ * the package that contains {@link io.github.portlek.observer.Source} and {@link io.github.portlek.observer.Observable}
+ * implementations.
  */
 package io.github.portlek.observer.source;
@@ -72,4 +72,14 @@ public interface Handle<T extends SmartEvent> extends Consumer<T>, Type<T> {
                                                @NotNull final Predicate<T>... requirements) {
     return Handle.from(clazz, consumer, Arrays.asList(requirements));
   }
+
+  /**
+   * obtains the class of the code that the handle runs, which is reported when the handle is slow.
+   *
+   * @return the class of the handle's code.
+   */
+  @NotNull
+  default Class<?> origin() {
+    return this.getClass();
+  }
 }
@@ -30,6 +30,7 @@ import io.github.portlek.smartinventory.event.abs.DragEvent;
 import io.github.portlek.smartinventory.event.abs.IconEvent;
 import io.github.portlek.smartinventory.event.abs.SmartEvent;
 import io.github.portlek.smartinventory.icon.BasicIcon;
+import io.github.portlek.smartinventory.template.PageTemplate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -149,6 +150,17 @@ public interface Icon {
   @NotNull
   Icon canUse(@NotNull Predicate<InventoryContents> predicate);
 
+  /**
+   * creates a copy of the icon with the same item, predicates, fallback and handles.
+   * <p>
+   * the copy can be changed without changing the icon, e.g. when the icon is shared by the sessions of a
+   * {@link PageTemplate}.
+   *
+   * @return a new icon.
+   */
+  @NotNull
+  Icon copy();
+
   /**
    * sets the fallback item of the icon to the given item.
    *
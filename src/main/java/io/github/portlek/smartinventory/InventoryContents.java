@@ -26,7 +26,10 @@
 package io.github.portlek.smartinventory;
 
 import com.google.common.base.Preconditions;
+import io.github.portlek.observer.Observable;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
 import io.github.portlek.smartinventory.content.BasicSlotIterator;
+import io.github.portlek.smartinventory.content.SlotBinding;
 import io.github.portlek.smartinventory.util.Pattern;
 import io.github.portlek.smartinventory.util.SlotPos;
 import java.util.ArrayList;
@@ -34,7 +37,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -69,10 +75,11 @@ public interface InventoryContents {
    */
   @NotNull
   default InventoryContents add(@NotNull final Icon item) {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[0].length; column++) {
-        if (all[row][column] == null) {
+    final var rows = this.page().row();
+    final var columns = this.page().column();
+    for (var row = 0; row < rows; row++) {
+      for (var column = 0; column < columns; column++) {
+        if (this.getIcon(row, column) == null) {
           this.set(row, column, item);
           return this;
         }
@@ -112,12 +119,17 @@ public interface InventoryContents {
   @NotNull
   default InventoryContents applyRect(final int fromRow, final int fromColumn, final int toRow, final int toColumn,
                                       @NotNull final ObjIntConsumer<Integer> apply) {
-    for (var row = fromRow; row <= toRow; row++) {
-      for (var column = fromColumn; column <= toColumn; column++) {
-        apply.accept(row, column);
+    this.beginBatch();
+    try {
+      for (var row = fromRow; row <= toRow; row++) {
+        for (var column = fromColumn; column <= toColumn; column++) {
+          apply.accept(row, column);
+        }
       }
+      return this;
+    } finally {
+      this.commitBatch();
     }
-    return this;
   }
 
   /**
@@ -143,6 +155,117 @@ public interface InventoryContents {
       this.get(row, column).ifPresent(apply));
   }
 
+  /**
+   * runs the given consumer inside a batch.
+   *
+   * @param consumer the consumer to run.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @see #beginBatch()
+   */
+  @NotNull
+  default InventoryContents batch(@NotNull final Consumer<InventoryContents> consumer) {
+    this.beginBatch();
+    try {
+      consumer.accept(this);
+    } finally {
+      this.commitBatch();
+    }
+    return this;
+  }
+
+  /**
+   * begins a batch.
+   * <p>
+   * until the matching {@link #commitBatch()}, the slot changes only update the contents and mark the slots dirty.
+   * the items of the dirty slots are calculated and pushed once, when the outermost batch is committed.
+   * <p>
+   * batches can be nested, each call must be paired with a {@link #commitBatch()}, preferably in a finally block.
+   * <p>
+   * the default implementation does nothing, for the contents that push every change right away.
+   */
+  default void beginBatch() {
+  }
+
+  /**
+   * sets the given icon into the given slot and sets it again whenever one of the given observables changes.
+   * <p>
+   * the icon is recalculated and flushed for that slot only, so the icons that read the observables in their
+   * {@link Icon#canSee(java.util.function.Predicate)} or item are kept up to date without updating the whole page.
+   *
+   * @param row the row to bind.
+   * @param column the column to bind.
+   * @param icon the icon to bind.
+   * @param observables the observables to listen.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @see #bind(int, int, Supplier, Observable[])
+   */
+  @NotNull
+  default InventoryContents bind(final int row, final int column, @NotNull final Icon icon,
+                                 @NotNull final Observable<?>... observables) {
+    return this.bind(row, column, () -> icon, observables);
+  }
+
+  /**
+   * sets the icon that is created from the value of the given observable into the given slot, and creates it again
+   * whenever the value changes.
+   *
+   * @param row the row to bind.
+   * @param column the column to bind.
+   * @param observable the observable to listen.
+   * @param mapper the mapper to create the icon from the value.
+   * @param <T> type of the value.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @see #bind(int, int, Supplier, Observable[])
+   */
+  @NotNull
+  default <T> InventoryContents bind(final int row, final int column, @NotNull final Observable<T> observable,
+                                     @NotNull final Function<T, Icon> mapper) {
+    return this.bind(row, column, () -> mapper.apply(observable.get()), observable);
+  }
+
+  /**
+   * sets the icon of the given supplier into the given slot, and sets a new one from the supplier whenever one of the
+   * given observables changes.
+   * <p>
+   * only the bound slot of {@code this} is recomputed and flushed, the other slots and sessions are left alone.
+   * the binding ends on the first change after the slot is set to another icon or {@code this} is collected, and
+   * {@link BasicInventoryContents} also ends its bindings when its session ends.
+   * <p>
+   * this method has to be called on the main thread. the observables can be set from any thread, the changes that
+   * are notified off the main thread are rendered on the next tick.
+   *
+   * @param row the row to bind.
+   * @param column the column to bind.
+   * @param icon the icon supplier to bind.
+   * @param observables the observables to listen.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @see SlotBinding
+   */
+  @NotNull
+  default InventoryContents bind(final int row, final int column, @NotNull final Supplier<Icon> icon,
+                                 @NotNull final Observable<?>... observables) {
+    new SlotBinding(this, row, column, icon, observables).bind();
+    return this;
+  }
+
+  /**
+   * commits the batch that is started with {@link #beginBatch()}.
+   * <p>
+   * if this closes the outermost batch, the dirty slots are pushed to the inventory.
+   * <p>
+   * the default implementation does nothing, for the contents that push every change right away.
+   */
+  default void commitBatch() {
+  }
+
   /**
    * fills the inventory with the given item.
    *
@@ -152,13 +275,19 @@ public interface InventoryContents {
    */
   @NotNull
   default InventoryContents fill(@NotNull final Icon item) {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[row].length; column++) {
-        this.set(row, column, item);
+    this.beginBatch();
+    try {
+      final var rows = this.page().row();
+      final var columns = this.page().column();
+      for (var row = 0; row < rows; row++) {
+        for (var column = 0; column < columns; column++) {
+          this.set(row, column, item);
+        }
       }
+      return this;
+    } finally {
+      this.commitBatch();
     }
-    return this;
   }
 
   /**
@@ -184,13 +313,17 @@ public interface InventoryContents {
    */
   @NotNull
   default InventoryContents fillColumn(final int column, @NotNull final Icon item) {
-    final var all = this.all();
-    if (column < 0 || column >= all[0].length) {
+    this.beginBatch();
+    try {
+      if (column < 0 || column >= this.page().column()) {
+        return this;
+      }
+      IntStream.range(0, this.page().row()).forEach(row ->
+        this.set(row, column, item));
       return this;
+    } finally {
+      this.commitBatch();
     }
-    IntStream.range(0, all.length).forEach(row ->
-      this.set(row, column, item));
-    return this;
   }
 
   /**
@@ -202,16 +335,22 @@ public interface InventoryContents {
    */
   @NotNull
   default InventoryContents fillEmpties(@NotNull final Icon item) {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[row].length; column++) {
-        final var icon = all[row][column];
-        if (icon == null || icon.getItem().getType() == Material.AIR) {
-          this.set(row, column, item);
+    this.beginBatch();
+    try {
+      final var rows = this.page().row();
+      final var columns = this.page().column();
+      for (var row = 0; row < rows; row++) {
+        for (var column = 0; column < columns; column++) {
+          final var icon = this.getIcon(row, column);
+          if (icon == null || icon.getItem().getType() == Material.AIR) {
+            this.set(row, column, item);
+          }
         }
       }
+      return this;
+    } finally {
+      this.commitBatch();
     }
-    return this;
   }
 
   /**
@@ -270,15 +409,21 @@ public interface InventoryContents {
   @NotNull
   default InventoryContents fillPattern(@NotNull final Pattern<Icon> pattern, final int startRow,
                                         final int startColumn) {
-    for (var row = 0; row < pattern.getRowCount(); row++) {
-      for (var column = 0; column < pattern.getColumnCount(); column++) {
-        final var finalRow = startRow + row;
-        final var finalColumn = startColumn + column;
-        pattern.getObject(row, column).ifPresent(icon ->
-          this.set(finalRow, finalColumn, icon));
+    final var compiled = pattern.compile();
+    this.beginBatch();
+    try {
+      for (var row = 0; row < compiled.getRowCount(); row++) {
+        for (var column = 0; column < compiled.getColumnCount(); column++) {
+          final var icon = compiled.getObject(row, column);
+          if (icon != null) {
+            this.set(startRow + row, startColumn + column, icon);
+          }
+        }
       }
+      return this;
+    } finally {
+      this.commitBatch();
     }
-    return this;
   }
 
   /**
@@ -388,29 +533,42 @@ public interface InventoryContents {
   @NotNull
   default InventoryContents fillPatternRepeating(@NotNull final Pattern<Icon> pattern, final int startRow,
                                                  final int startColumn, int endRow, int endColumn) {
-    Preconditions.checkArgument(pattern.isWrapAround(),
-      "To fill in a repeating pattern wrapAround needs to be enabled for the pattern to work!");
-    if (endRow < 0) {
-      endRow = this.page().row();
-    }
-    if (endColumn < 0) {
-      endColumn = this.page().column();
-    }
-    Preconditions.checkArgument(startRow < endRow,
-      "The start row needs to be lower than the end row");
-    Preconditions.checkArgument(startColumn < endColumn,
-      "The start column needs to be lower than the end column");
-    final var rowDelta = endRow - startRow;
-    final var columnDelta = endColumn - startColumn;
-    for (var row = 0; row <= rowDelta; row++) {
-      for (var column = 0; column <= columnDelta; column++) {
-        final var finalRow = startRow + row;
-        final var finalColumn = startColumn + column;
-        pattern.getObject(row, column).ifPresent(icon ->
-          this.set(finalRow, finalColumn, icon));
+    this.beginBatch();
+    try {
+      Preconditions.checkArgument(pattern.isWrapAround(),
+        "To fill in a repeating pattern wrapAround needs to be enabled for the pattern to work!");
+      if (endRow < 0) {
+        endRow = this.page().row();
+      }
+      if (endColumn < 0) {
+        endColumn = this.page().column();
+      }
+      Preconditions.checkArgument(startRow < endRow,
+        "The start row needs to be lower than the end row");
+      Preconditions.checkArgument(startColumn < endColumn,
+        "The start column needs to be lower than the end column");
+      final var compiled = pattern.compile();
+      final var rowCount = compiled.getRowCount();
+      final var columnCount = compiled.getColumnCount();
+      final var rowDelta = endRow - startRow;
+      final var columnDelta = endColumn - startColumn;
+      for (var row = 0; row <= rowDelta; row++) {
+        final var patternRow = row % rowCount;
+        var patternColumn = 0;
+        for (var column = 0; column <= columnDelta; column++) {
+          final var icon = compiled.getObject(patternRow, patternColumn);
+          if (icon != null) {
+            this.set(startRow + row, startColumn + column, icon);
+          }
+          if (++patternColumn == columnCount) {
+            patternColumn = 0;
+          }
+        }
       }
+      return this;
+    } finally {
+      this.commitBatch();
     }
-    return this;
   }
 
   /**
@@ -520,13 +678,17 @@ public interface InventoryContents {
    */
   @NotNull
   default InventoryContents fillRow(final int row, @NotNull final Icon item) {
-    final var all = this.all();
-    if (row < 0 || row >= all.length) {
+    this.beginBatch();
+    try {
+      if (row < 0 || row >= this.page().row()) {
+        return this;
+      }
+      IntStream.range(0, this.page().column()).forEach(column ->
+        this.set(row, column, item));
       return this;
+    } finally {
+      this.commitBatch();
     }
-    IntStream.range(0, all[row].length).forEach(column ->
-      this.set(row, column, item));
-    return this;
   }
 
   /**
@@ -561,16 +723,21 @@ public interface InventoryContents {
   @NotNull
   default InventoryContents fillSquare(final int fromRow, final int fromColumn, final int toRow, final int toColumn,
                                        @NotNull final Icon item) {
-    Preconditions.checkArgument(fromRow < toRow,
-      "The start row needs to be lower than the end row");
-    Preconditions.checkArgument(fromColumn < toColumn,
-      "The start column needs to be lower than the end column");
-    for (int row = fromRow; row <= toRow; row++) {
-      for (int column = fromColumn; column <= toColumn; column++) {
-        this.set(row, column, item);
+    this.beginBatch();
+    try {
+      Preconditions.checkArgument(fromRow < toRow,
+        "The start row needs to be lower than the end row");
+      Preconditions.checkArgument(fromColumn < toColumn,
+        "The start column needs to be lower than the end column");
+      for (int row = fromRow; row <= toRow; row++) {
+        for (int column = fromColumn; column <= toColumn; column++) {
+          this.set(row, column, item);
+        }
       }
+      return this;
+    } finally {
+      this.commitBatch();
     }
-    return this;
   }
 
   /**
@@ -600,10 +767,11 @@ public interface InventoryContents {
    */
   @NotNull
   default Optional<SlotPos> findItem(@NotNull final ItemStack item) {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[0].length; column++) {
-        final var icon = all[row][column];
+    final var rows = this.page().row();
+    final var columns = this.page().column();
+    for (var row = 0; row < rows; row++) {
+      for (var column = 0; column < columns; column++) {
+        final var icon = this.getIcon(row, column);
         if (icon != null && item.isSimilar(icon.calculateItem(this))) {
           return Optional.of(SlotPos.of(row, column));
         }
@@ -636,10 +804,11 @@ public interface InventoryContents {
    */
   @NotNull
   default Optional<SlotPos> firstEmpty() {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[0].length; column++) {
-        if (this.get(row, column).isEmpty()) {
+    final var rows = this.page().row();
+    final var columns = this.page().column();
+    for (var row = 0; row < rows; row++) {
+      for (var column = 0; column < columns; column++) {
+        if (this.getIcon(row, column) == null) {
           return Optional.of(SlotPos.of(row, column));
         }
       }
@@ -673,14 +842,7 @@ public interface InventoryContents {
    */
   @NotNull
   default Optional<Icon> get(final int row, final int column) {
-    final var all = this.all();
-    if (row < 0 || row >= all.length) {
-      return Optional.empty();
-    }
-    if (column < 0 || column >= all[row].length) {
-      return Optional.empty();
-    }
-    return Optional.ofNullable(all[row][column]);
+    return Optional.ofNullable(this.getIcon(row, column));
   }
 
   /**
@@ -706,6 +868,19 @@ public interface InventoryContents {
     return this.player().getOpenInventory().getBottomInventory();
   }
 
+  /**
+   * obtains the icon at the given row and column without copying the contents.
+   * <p>
+   * unlike {@link #all()}, this does not allocate, so it is the preferred way to read single slots.
+   *
+   * @param row the row to get.
+   * @param column the column to get.
+   *
+   * @return the icon at the slot, or {@code null} if the slot is empty or out of bounds.
+   */
+  @Nullable
+  Icon getIcon(int row, int column);
+
   /**
    * obtains the properties.
    *
@@ -766,6 +941,33 @@ public interface InventoryContents {
    */
   boolean isEditable(@NotNull SlotPos slot);
 
+  /**
+   * returns if a given slot is editable or not.
+   *
+   * @param row the row of the slot to check.
+   * @param column the column of the slot to check.
+   *
+   * @return {@code true} if the editable.
+   */
+  default boolean isEditable(final int row, final int column) {
+    return this.isEditable(SlotPos.of(row, column));
+  }
+
+  /**
+   * checks if the contents are currently shown to the player.
+   * <p>
+   * slot writes are pushed to the top inventory only while this is {@code true}.
+   * <p>
+   * the default implementation looks up the open session of the player.
+   *
+   * @return {@code true} if the contents are viewed.
+   */
+  default boolean isViewed() {
+    return SmartInventory.getHolder(this.player())
+      .filter(holder -> holder.getContents() == this)
+      .isPresent();
+  }
+
   /**
    * gets a previously registered iterator named with the given id.
    * <p>
@@ -867,14 +1069,31 @@ public interface InventoryContents {
    * opens the next page with using {@link Pagination}.
    */
   default void openNext() {
-    this.page().open(this.player(), this.pagination().next().getPage());
+    this.openPage(this.pagination().next().getPage());
+  }
+
+  /**
+   * opens the given page with using {@link Pagination}.
+   * <p>
+   * if {@link Page#paginateInPlace()} is enabled and the contents are viewed, the open inventory is repainted with
+   * {@link Pagination#repaint(InventoryContents)}, otherwise the page is reopened.
+   *
+   * @param page the page to open.
+   */
+  default void openPage(final int page) {
+    final var pagination = this.pagination().page(page);
+    if (!this.page().paginateInPlace() || !this.isViewed() || !pagination.repaint(this)) {
+      this.page().open(this.player(), page);
+      return;
+    }
+    this.notifyUpdate();
   }
 
   /**
    * opens the previous page with using {@link Pagination}.
    */
   default void openPrevious() {
-    this.page().open(this.player(), this.pagination().previous().getPage());
+    this.openPage(this.pagination().previous().getPage());
   }
 
   /**
@@ -893,6 +1112,19 @@ public interface InventoryContents {
   @NotNull
   Pagination pagination();
 
+  /**
+   * replaces the pagination system linked to {@code this}, e.g. with a {@link Pagination#lazy(IntSupplier,
+   * PaginationSource, Function)} one.
+   * <p>
+   * the current page index is carried over to the given pagination.
+   *
+   * @param pagination the pagination to set.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  InventoryContents pagination(@NotNull Pagination pagination);
+
   /**
    * obtains the player of the contents.
    *
@@ -901,6 +1133,24 @@ public interface InventoryContents {
   @NotNull
   Player player();
 
+  /**
+   * calculates the icon of the given slot again and pushes it to the inventory, without setting the slot.
+   * <p>
+   * unlike {@link #set(int, int, Icon)}, the slot is not set on top of the template, so a template icon stays shared.
+   * inside a batch, the slot is only marked to be pushed on {@link #commitBatch()}.
+   * <p>
+   * the default implementation does nothing, for the contents that push every change right away.
+   *
+   * @param row the row to refresh.
+   * @param column the column to refresh.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  default InventoryContents refresh(final int row, final int column) {
+    return this;
+  }
+
   /**
    * removes all occurrences of the item from the inventory.
    * <p>
@@ -909,14 +1159,20 @@ public interface InventoryContents {
    * @param item the item as an ItemStack that shall be removed from the inventory.
    */
   default void removeAll(@NotNull final ItemStack item) {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[row].length; column++) {
-        final var icon = all[row][column];
-        if (icon != null && item.isSimilar(icon.getItem())) {
-          this.set(row, column, null);
+    this.beginBatch();
+    try {
+      final var rows = this.page().row();
+      final var columns = this.page().column();
+      for (var row = 0; row < rows; row++) {
+        for (var column = 0; column < columns; column++) {
+          final var icon = this.getIcon(row, column);
+          if (icon != null && item.isSimilar(icon.getItem())) {
+            this.set(row, column, null);
+          }
         }
       }
+    } finally {
+      this.commitBatch();
     }
   }
 
@@ -937,35 +1193,44 @@ public interface InventoryContents {
    * removes the specified amount of items from the inventory.
    * <p>
    * the items will be compared using {@link ItemStack#isSimilar(ItemStack)} to check if the are equal.
+   * <p>
+   * the icon of a partly removed slot is copied with {@link Icon#copy()} before its amount changes, so the other slots
+   * and sessions that share the icon keep their amount.
    *
    * @param item the item as an ItemStack that shall be removed from the inventory.
    * @param amount the amount that shall be removed.
    */
   default void removeAmount(@NotNull final ItemStack item, int amount) {
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[row].length; column++) {
-        final var icon = all[row][column];
-        if (icon != null && !item.isSimilar(icon.getItem())) {
-          continue;
-        }
-        if (icon == null) {
-          continue;
-        }
-        final var foundStack = icon.getItem();
-        if (foundStack.getAmount() <= amount) {
-          amount -= foundStack.getAmount();
-          this.set(row, column, null);
-          if (amount == 0) {
+    this.beginBatch();
+    try {
+      final var rows = this.page().row();
+      final var columns = this.page().column();
+      for (var row = 0; row < rows; row++) {
+        for (var column = 0; column < columns; column++) {
+          final var icon = this.getIcon(row, column);
+          if (icon != null && !item.isSimilar(icon.getItem())) {
+            continue;
+          }
+          if (icon == null) {
+            continue;
+          }
+          final var foundStack = icon.getItem();
+          if (foundStack.getAmount() <= amount) {
+            amount -= foundStack.getAmount();
+            this.set(row, column, null);
+            if (amount == 0) {
+              return;
+            }
+          } else if (foundStack.getAmount() > amount) {
+            final var clonedStack = foundStack.clone();
+            clonedStack.setAmount(clonedStack.getAmount() - amount);
+            this.set(row, column, icon.copy().item(clonedStack));
             return;
           }
-        } else if (foundStack.getAmount() > amount) {
-          final var clonedStack = foundStack.clone();
-          clonedStack.setAmount(clonedStack.getAmount() - amount);
-          this.set(row, column, icon.item(clonedStack));
-          return;
         }
       }
+    } finally {
+      this.commitBatch();
     }
   }
 
@@ -1017,6 +1282,22 @@ public interface InventoryContents {
     this.page().open(this.player(), this.getProperties());
   }
 
+  /**
+   * removes the icon that was set into the given slot, so the slot shows the icon of the {@link Page#template()}
+   * again, or becomes empty if the page has no template.
+   * <p>
+   * the default implementation empties the slot, for the contents that do not support templates.
+   *
+   * @param row the row to reset.
+   * @param column the column to reset.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  default InventoryContents reset(final int row, final int column) {
+    return this.set(row, column, null);
+  }
+
   /**
    * sets the item in the inventory at the given
    * slot index.
@@ -1085,6 +1366,64 @@ public interface InventoryContents {
    */
   InventoryContents setEditable(@NotNull SlotPos slot, boolean editable);
 
+  /**
+   * makes the slots of the given pattern editable or 'static' by their values, starting from the first slot.
+   * <p>
+   * the slots without a value are left as they are.
+   *
+   * @param pattern the pattern to set.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  default InventoryContents setEditable(@NotNull final Pattern<Boolean> pattern) {
+    return this.setEditable(pattern, 0, 0);
+  }
+
+  /**
+   * makes the slots of the given pattern editable or 'static' by their values, starting from the given slot.
+   * <p>
+   * the slots without a value are left as they are.
+   *
+   * @param pattern the pattern to set.
+   * @param rowOffset the row of the first slot of the pattern.
+   * @param columnOffset the column of the first slot of the pattern.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  InventoryContents setEditable(@NotNull Pattern<Boolean> pattern, int rowOffset, int columnOffset);
+
+  /**
+   * makes all the slots of the given rect editable, the corners are inclusive.
+   *
+   * @param fromRow the row of the first corner of the rect.
+   * @param fromColumn the column of the first corner of the rect.
+   * @param toRow the row of the second corner of the rect.
+   * @param toColumn the column of the second corner of the rect.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  default InventoryContents setEditableRect(final int fromRow, final int fromColumn, final int toRow,
+                                            final int toColumn) {
+    return this.setEditableRect(fromRow, fromColumn, toRow, toColumn, true);
+  }
+
+  /**
+   * makes all the slots of the given rect editable or 'static', the corners are inclusive.
+   *
+   * @param fromRow the row of the first corner of the rect.
+   * @param fromColumn the column of the first corner of the rect.
+   * @param toRow the row of the second corner of the rect.
+   * @param toColumn the column of the second corner of the rect.
+   * @param editable {@code true} to make the slots editable, {@code false} to make them 'static' again.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  InventoryContents setEditableRect(int fromRow, int fromColumn, int toRow, int toColumn, boolean editable);
+
   /**
    * sets the value of the property with the given name.
    * <p>
@@ -1106,10 +1445,11 @@ public interface InventoryContents {
    */
   @NotNull
   default List<SlotPos> slots() {
-    final var position = new ArrayList<SlotPos>();
-    final var all = this.all();
-    for (var row = 0; row < all.length; row++) {
-      for (var column = 0; column < all[0].length; column++) {
+    final var rows = this.page().row();
+    final var columns = this.page().column();
+    final var position = new ArrayList<SlotPos>(rows * columns);
+    for (var row = 0; row < rows; row++) {
+      for (var column = 0; column < columns; column++) {
         position.add(SlotPos.of(row, column));
       }
     }
@@ -25,8 +25,14 @@
 
 package io.github.portlek.smartinventory;
 
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.metrics.jfr.RenderEvent;
+import io.github.portlek.smartinventory.render.SlotRenderer;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -35,20 +41,46 @@ import org.jetbrains.annotations.NotNull;
 public interface InventoryOpener {
 
   /**
-   * fills the given contents to the given inventory.
+   * fills the given contents to the given inventory through the contents' renderer, or through a new renderer if
+   * the contents are not {@link BasicInventoryContents}.
+   * <p>
+   * the slots that still show the icon of the page's template take its pre-rendered item instead of calculating it.
    *
    * @param inventory the inventory to fill.
    * @param contents the contents to fill.
    */
   default void fill(@NotNull final Inventory inventory, @NotNull final InventoryContents contents) {
-    final var items = contents.all();
-    for (var row = 0; row < items.length; row++) {
-      for (var column = 0; column < items[row].length; column++) {
-        if (items[row][column] != null) {
-          inventory.setItem(9 * row + column, items[row][column].calculateItem(contents));
+    final var page = contents.page();
+    final var metrics = page.inventory().metrics();
+    final var watchdog = page.inventory().watchdog();
+    final var start = metrics.start();
+    final var recorded = new RenderEvent();
+    recorded.begin();
+    final var rows = page.row();
+    final var columns = page.column();
+    final var renderer = contents instanceof BasicInventoryContents
+      ? ((BasicInventoryContents) contents).renderer()
+      : new SlotRenderer();
+    final var template = page.template().orElse(null);
+    renderer.reset();
+    for (var row = 0; row < rows; row++) {
+      for (var column = 0; column < columns; column++) {
+        final var icon = contents.getIcon(row, column);
+        if (icon != null) {
+          final ItemStack item;
+          if (template != null && template.getIcon(row, column) == icon) {
+            item = template.getItem(row, column);
+          } else {
+            final var watched = watchdog.start();
+            item = icon.calculateItem(contents);
+            watchdog.check(watched, WatchPoint.ICON_CALCULATE, page.id(), row, column, null);
+          }
+          renderer.render(inventory, columns * row + column, item, contents.isEditable(row, column));
         }
       }
     }
+    metrics.record(page.id(), Operation.RENDER, start);
+    recorded.finish(page.id(), contents.player().getUniqueId(), rows * columns);
   }
 
   /**
@@ -35,6 +35,7 @@ import io.github.portlek.smartinventory.event.abs.PageEvent;
 import io.github.portlek.smartinventory.event.abs.TickEvent;
 import io.github.portlek.smartinventory.event.abs.UpdateEvent;
 import io.github.portlek.smartinventory.page.BasicPage;
+import io.github.portlek.smartinventory.template.PageTemplate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,7 @@ import java.util.function.Predicate;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * an interface to determine {@link Inventory}.
@@ -225,10 +227,15 @@ public interface Page {
 
   /**
    * runs the {@link #provider()}'s {@link InventoryProvider#update(InventoryContents)} method with the given contents.
+   * <p>
+   * the request goes through {@link SmartInventory#updates()}, so it may run on the next server tick, once for all
+   * the requests of the contents.
    *
    * @param contents the contents to update.
    */
-  void notifyUpdate(@NotNull InventoryContents contents);
+  default void notifyUpdate(@NotNull final InventoryContents contents) {
+    this.inventory().updates().request(contents);
+  }
 
   /**
    * runs the {@link InventoryProvider#update(InventoryContents)} methods for all players who opened {@code this}.
@@ -300,6 +307,28 @@ public interface Page {
   @NotNull
   Inventory open(@NotNull Player player, int page, @NotNull Map<String, Object> properties, boolean close);
 
+  /**
+   * obtains the in place pagination status.
+   *
+   * @return {@code true} if the pagination repaints the current inventory instead of reopening the page.
+   */
+  boolean paginateInPlace();
+
+  /**
+   * sets the in place pagination status.
+   * <p>
+   * if enabled, {@link InventoryContents#openNext()} and {@link InventoryContents#openPrevious()} keep the open
+   * inventory and only repaint the slots that were filled by {@link Pagination#renderInto(SlotIterator)},
+   * then run {@link InventoryProvider#update(InventoryContents)} instead of
+   * {@link InventoryProvider#init(InventoryContents)}.
+   *
+   * @param paginateInPlace the in place pagination status to set.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  Page paginateInPlace(boolean paginateInPlace);
+
   /**
    * obtains tha parent page of {@code this}.
    *
@@ -370,6 +399,44 @@ public interface Page {
   @NotNull
   Page startDelay(long startDelay);
 
+  /**
+   * obtains the shared static layer of the page.
+   *
+   * @return the template of the page.
+   */
+  @NotNull
+  Optional<PageTemplate> template();
+
+  /**
+   * sets the shared static layer of the page, which is rendered under the contents of every session.
+   * <p>
+   * the provider then only needs to set the slots that differ per player.
+   *
+   * @param template the template to set, or {@code null} to remove it.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @throws IllegalArgumentException if the template does not have the size of the page.
+   */
+  @NotNull
+  Page template(@Nullable PageTemplate template);
+
+  /**
+   * builds and sets the shared static layer of the page from the given initializer.
+   * <p>
+   * the template is built for the current size of the page, so set {@link #row(int)} and {@link #column(int)} first.
+   *
+   * @param initializer the initializer that fills the static layer.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @see PageTemplate#of(Page, Consumer)
+   */
+  @NotNull
+  default Page template(@NotNull final Consumer<InventoryContents> initializer) {
+    return this.template(PageTemplate.of(this, initializer));
+  }
+
   /**
    * obtains the tick amount.
    *
@@ -422,6 +489,16 @@ public interface Page {
   @NotNull
   Page title(@NotNull String title);
 
+  /**
+   * runs the update handlers and the {@link #provider()}'s {@link InventoryProvider#update(InventoryContents)} method
+   * with the given contents right away.
+   *
+   * @param contents the contents to update.
+   *
+   * @see #notifyUpdate(InventoryContents)
+   */
+  void update(@NotNull InventoryContents contents);
+
   /**
    * adds the given consumer as a bottom inventory click event.
    *
@@ -25,6 +25,11 @@
 
 package io.github.portlek.smartinventory;
 
+import io.github.portlek.smartinventory.content.LazyPagination;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -46,26 +51,48 @@ import org.jetbrains.annotations.NotNull;
  * then, when you need to get all the icons of the current page,
  * either use the {@link Pagination#getPageIcons()} method, or directly
  * add the icons to your inventory with a {@link SlotIterator} and the
- * method {@link Pagination#addToIterator(SlotIterator)}.
+ * method {@link Pagination#renderInto(SlotIterator)}.
  */
 public interface Pagination {
 
+  /**
+   * creates a pagination that loads only the entries of the current page from the given source.
+   *
+   * @param size the supplier of the total entry count.
+   * @param source the source to load the entries.
+   * @param mapper the mapper to create the icons from the entries.
+   * @param <T> type of the entries.
+   *
+   * @return a lazy pagination instance.
+   *
+   * @see LazyPagination
+   */
+  @NotNull
+  static <T> Pagination lazy(@NotNull final IntSupplier size, @NotNull final PaginationSource<T> source,
+                             @NotNull final Function<T, Icon> mapper) {
+    return new LazyPagination<>(size, source, mapper);
+  }
+
   /**
    * adds all the current page icons to the given iterator.
    *
    * @param iterator the iterator.
    *
    * @return {@code this}, for chained calls.
+   *
+   * @see #renderInto(SlotIterator)
    */
   @NotNull
   default Pagination addToIterator(@NotNull final SlotIterator iterator) {
-    for (final var item : this.getPageIcons()) {
-      iterator.next().set(item);
-      if (iterator.ended()) {
-        break;
-      }
-    }
-    return this;
+    return this.renderInto(iterator);
+  }
+
+  /**
+   * releases the resources of the pagination, e.g. cancels the pending prefetches.
+   * <p>
+   * this runs when the session of the contents closes.
+   */
+  default void dispose() {
   }
 
   /**
@@ -151,6 +178,38 @@ public interface Pagination {
   @NotNull
   Pagination previous();
 
+  /**
+   * places all the current page icons into the given iterator in one pass, until the iterator ends.
+   * <p>
+   * the slots are pushed to the inventory once, through {@link SlotIterator#fill(List)}.
+   *
+   * @param iterator the iterator to render into.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  default Pagination renderInto(@NotNull final SlotIterator iterator) {
+    iterator.fill(Arrays.asList(this.getPageIcons()));
+    return this;
+  }
+
+  /**
+   * repaints the current page into the slots of the last {@link #renderInto(SlotIterator)} call.
+   * <p>
+   * the slots that were filled by the previous page are cleared, then the current page icons are added to the same
+   * iterator inside a batch, so only the changed slots are pushed to the inventory.
+   * the other slots are not touched, the icons that depend on the current page, like the arrows, can be changed in
+   * {@link InventoryProvider#update(InventoryContents)}, which {@link InventoryContents#openPage(int)} runs after the
+   * repaint.
+   *
+   * @param contents the contents to repaint.
+   *
+   * @return {@code true} if the page was repainted, {@code false} if there is no iterator to repaint.
+   */
+  default boolean repaint(@NotNull final InventoryContents contents) {
+    return false;
+  }
+
   /**
    * sets all the icons for this Pagination.
    *
@@ -26,7 +26,9 @@
 package io.github.portlek.smartinventory;
 
 import io.github.portlek.smartinventory.util.Pattern;
+import io.github.portlek.smartinventory.util.SlotMask;
 import io.github.portlek.smartinventory.util.SlotPos;
+import java.util.List;
 import java.util.Optional;
 import org.jetbrains.annotations.NotNull;
 
@@ -141,6 +143,14 @@ public interface SlotIterator {
   @NotNull
   SlotIterator column(int column);
 
+  /**
+   * obtains the contents that the iterator places the icons into.
+   *
+   * @return the contents of the iterator.
+   */
+  @NotNull
+  InventoryContents contents();
+
   /**
    * gets the value of the allow override option.
    * <p>
@@ -194,6 +204,38 @@ public interface SlotIterator {
    */
   boolean ended();
 
+  /**
+   * places the given icons into the next slots of the iterator in one pass, until the icons run out or the iterator
+   * ends.
+   * <p>
+   * this is the same as calling {@link #next()} and {@link #set(Icon)} for each icon, but the slots are pushed to the
+   * inventory once, inside a batch of the contents.
+   *
+   * @param icons the icons to place, the {@code null} entries reset their slots with
+   *   {@link InventoryContents#reset(int, int)}.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  default SlotIterator fill(@NotNull final List<Icon> icons) {
+    return this.fill(icons, new SlotMask());
+  }
+
+  /**
+   * places the given icons into the next slots of the iterator in one pass, until the icons run out or the iterator
+   * ends, and adds the slots that got an icon to the given mask.
+   *
+   * @param icons the icons to place, the {@code null} entries reset their slots with
+   *   {@link InventoryContents#reset(int, int)}.
+   * @param placed the mask to add the slots that got an icon.
+   *
+   * @return {@code this}, for chained calls.
+   *
+   * @see #fill(List)
+   */
+  @NotNull
+  SlotIterator fill(@NotNull List<Icon> icons, @NotNull SlotMask placed);
+
   /**
    * gets the icon at the current position in the inventory.
    *
@@ -32,7 +32,15 @@ import io.github.portlek.smartinventory.listener.InventoryDragListener;
 import io.github.portlek.smartinventory.listener.InventoryOpenListener;
 import io.github.portlek.smartinventory.listener.PlayerQuitListener;
 import io.github.portlek.smartinventory.listener.PluginDisableListener;
+import io.github.portlek.smartinventory.metrics.InventoryMetrics;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.metrics.jfr.TickDispatchEvent;
 import io.github.portlek.smartinventory.opener.ChestInventoryOpener;
+import io.github.portlek.smartinventory.scheduler.TickScheduler;
+import io.github.portlek.smartinventory.scheduler.UpdateCoalescer;
+import io.github.portlek.smartinventory.session.SessionRegistry;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
+import io.github.portlek.smartinventory.watchdog.Watchdog;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -112,10 +120,8 @@ public interface SmartInventory {
    */
   @NotNull
   static List<SmartHolder> getHolders() {
-    return Bukkit.getOnlinePlayers().stream()
-      .map(SmartInventory::getHolder)
-      .filter(Optional::isPresent)
-      .map(Optional::get)
+    return SessionRegistry.active().stream()
+      .flatMap(registry -> registry.all().stream())
       .collect(Collectors.toList());
   }
 
@@ -128,8 +134,7 @@ public interface SmartInventory {
    */
   @NotNull
   static List<Player> getOpenedPlayers(@NotNull final Page page) {
-    return SmartInventory.getHolders().stream()
-      .filter(holder -> page.id().equals(holder.getPage().id()))
+    return page.inventory().getSessions().byPage(page.id()).stream()
       .map(SmartHolder::getPlayer)
       .collect(Collectors.toList());
   }
@@ -151,9 +156,10 @@ public interface SmartInventory {
    * @param <T> type of the class.
    */
   static <T extends InventoryProvider> void notifyUpdateForAll(@NotNull final Class<T> provider) {
-    SmartInventory.getHolders().stream()
+    SessionRegistry.active().stream()
+      .flatMap(registry -> registry.byProvider(provider).stream())
       .map(SmartHolder::getContents)
-      .filter(contents -> provider.equals(contents.page().provider().getClass()))
+      .collect(Collectors.toList())
       .forEach(InventoryContents::notifyUpdate);
   }
 
@@ -163,9 +169,10 @@ public interface SmartInventory {
    * @param id the id to find and run the update method.
    */
   static void notifyUpdateForAllById(@NotNull final String id) {
-    SmartInventory.getHolders().stream()
+    SessionRegistry.active().stream()
+      .flatMap(registry -> registry.byPage(id).stream())
       .map(SmartHolder::getPage)
-      .filter(page -> page.id().equals(id))
+      .collect(Collectors.toList())
       .forEach(Page::notifyUpdateForAll);
   }
 
@@ -200,6 +207,22 @@ public interface SmartInventory {
   @NotNull
   Plugin getPlugin();
 
+  /**
+   * obtains the tick scheduler.
+   *
+   * @return tick scheduler.
+   */
+  @NotNull
+  TickScheduler getScheduler();
+
+  /**
+   * obtains the session registry.
+   *
+   * @return session registry.
+   */
+  @NotNull
+  SessionRegistry getSessions();
+
   /**
    * obtains the given uniqueId's task.
    *
@@ -214,6 +237,8 @@ public interface SmartInventory {
 
   /**
    * obtains the tasks.
+   * <p>
+   * only used when {@link #isLegacyTicking()} is enabled.
    *
    * @return tasks.
    */
@@ -224,10 +249,28 @@ public interface SmartInventory {
    * initiates the manager.
    */
   default void init() {
+    SessionRegistry.activate(this.getPlugin(), this.getSessions());
     SmartInventory.LISTENERS.apply(this::stopTick).forEach(listener ->
       Bukkit.getPluginManager().registerEvents(listener, this.getPlugin()));
   }
 
+  /**
+   * checks if the pages are ticked with a {@link BukkitRunnable} per viewer instead of the {@link TickScheduler}.
+   *
+   * @return {@code true} if the legacy ticking is enabled.
+   */
+  boolean isLegacyTicking();
+
+  /**
+   * obtains the latency metrics of the pages.
+   * <p>
+   * the metrics are disabled until {@link InventoryMetrics#setEnabled(boolean)} is called.
+   *
+   * @return the metrics.
+   */
+  @NotNull
+  InventoryMetrics metrics();
+
   /**
    * registers the given inventory openers.
    *
@@ -246,6 +289,15 @@ public interface SmartInventory {
     this.getTasks().remove(uniqueId);
   }
 
+  /**
+   * sets the legacy ticking status.
+   * <p>
+   * this affects the pages that are opened after the call.
+   *
+   * @param legacyTicking {@code true} to tick with a {@link BukkitRunnable} per viewer.
+   */
+  void setLegacyTicking(boolean legacyTicking);
+
   /**
    * sets the given player of the ticking task to the given task.
    *
@@ -262,6 +314,7 @@ public interface SmartInventory {
    * @param uniqueId the uniqueId to stop.
    */
   default void stopTick(@NotNull final UUID uniqueId) {
+    this.getScheduler().cancel(uniqueId);
     this.getTask(uniqueId).ifPresent(runnable -> {
       Bukkit.getScheduler().cancelTask(runnable.getTaskId());
       this.removeTask(uniqueId);
@@ -275,14 +328,29 @@ public interface SmartInventory {
    * @param page the page to start.
    */
   default void tick(@NotNull final UUID uniqueId, @NotNull final Page page) {
+    if (!this.isLegacyTicking()) {
+      this.getSessions().get(uniqueId)
+        .filter(holder -> holder.getPage() == page)
+        .ifPresent(this.getScheduler()::schedule);
+      return;
+    }
     final BukkitRunnable task = new BukkitRunnable() {
       @Override
       public void run() {
         SmartInventory.getHolder(uniqueId)
           .map(SmartHolder::getContents)
           .ifPresent(contents -> {
+            final var metrics = page.inventory().metrics();
+            final var start = metrics.start();
+            final var recorded = new TickDispatchEvent();
+            recorded.begin();
             page.accept(new PgTickEvent(contents));
+            final var watchdog = page.inventory().watchdog();
+            final var watched = watchdog.start();
             page.provider().tick(contents);
+            watchdog.check(watched, WatchPoint.PROVIDER_TICK, page.id(), -1, -1, null);
+            metrics.record(page.id(), Operation.TICK, start);
+            recorded.finish(page.id(), uniqueId, page.row() * page.column());
           });
       }
     };
@@ -294,6 +362,26 @@ public interface SmartInventory {
     }
   }
 
+  /**
+   * obtains the coalescer of the update requests.
+   * <p>
+   * the coalescing is disabled until {@link UpdateCoalescer#setEnabled(boolean)} is called.
+   *
+   * @return the update coalescer.
+   */
+  @NotNull
+  UpdateCoalescer updates();
+
+  /**
+   * obtains the watchdog of the slow handlers and providers.
+   * <p>
+   * the watchdog is disabled until {@link Watchdog#setEnabled(boolean)} is called.
+   *
+   * @return the watchdog.
+   */
+  @NotNull
+  Watchdog watchdog();
+
   /**
    * unregisters the given inventory openers.
    *
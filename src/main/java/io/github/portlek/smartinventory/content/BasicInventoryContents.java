@@ -25,20 +25,32 @@
 
 package io.github.portlek.smartinventory.content;
 
+import com.google.common.base.Preconditions;
+import io.github.portlek.observer.Observable;
 import io.github.portlek.smartinventory.Icon;
 import io.github.portlek.smartinventory.InventoryContents;
 import io.github.portlek.smartinventory.Page;
 import io.github.portlek.smartinventory.Pagination;
 import io.github.portlek.smartinventory.SlotIterator;
-import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.metrics.jfr.FlushEvent;
+import io.github.portlek.smartinventory.metrics.jfr.TitleUpdateEvent;
+import io.github.portlek.smartinventory.render.SlotRenderer;
+import io.github.portlek.smartinventory.template.PageTemplate;
+import io.github.portlek.smartinventory.util.Pattern;
+import io.github.portlek.smartinventory.util.SlotMask;
 import io.github.portlek.smartinventory.util.SlotPos;
 import io.github.portlek.smartinventory.util.TitleUpdater;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -51,16 +63,28 @@ import org.jetbrains.annotations.Nullable;
 @RequiredArgsConstructor
 public final class BasicInventoryContents implements InventoryContents {
 
+  /**
+   * the slot bindings.
+   */
+  private final Queue<SlotBinding> bindings = new ConcurrentLinkedQueue<>();
+
   /**
    * the contents.
+   * <p>
+   * with a template, the rows are only allocated when a slot of them is set.
    */
   @Nullable
   private final Icon[][] contents;
 
+  /**
+   * the dirty slots of the current batch.
+   */
+  private final BitSet dirty = new BitSet();
+
   /**
    * the editable slots.
    */
-  private final Set<SlotPos> editableSlots = new HashSet<>();
+  private final SlotMask editableSlots = new SlotMask();
 
   /**
    * the iterators.
@@ -68,15 +92,15 @@ public final class BasicInventoryContents implements InventoryContents {
   private final Map<String, SlotIterator> iterators = new HashMap<>();
 
   /**
-   * the page.
+   * the slots that are set on top of the template.
    */
-  @NotNull
-  private final Page page;
+  private final SlotMask overridden = new SlotMask();
 
   /**
-   * the pagination.
+   * the page.
    */
-  private final Pagination pagination = new BasicPagination();
+  @NotNull
+  private final Page page;
 
   /**
    * the player.
@@ -89,6 +113,33 @@ public final class BasicInventoryContents implements InventoryContents {
    */
   private final Map<String, Object> properties = new HashMap<>();
 
+  /**
+   * the renderer.
+   */
+  private final SlotRenderer renderer = new SlotRenderer();
+
+  /**
+   * the shared static layer under the contents.
+   */
+  @Nullable
+  private final PageTemplate template;
+
+  /**
+   * the depth of the nested batches.
+   */
+  private int batchDepth;
+
+  /**
+   * the pagination.
+   */
+  @NotNull
+  private Pagination pagination = new BasicPagination();
+
+  /**
+   * the viewed.
+   */
+  private volatile boolean viewed;
+
   /**
    * ctor.
    *
@@ -96,13 +147,89 @@ public final class BasicInventoryContents implements InventoryContents {
    * @param player the player
    */
   public BasicInventoryContents(@NotNull final Page page, @NotNull final Player player) {
-    this(new Icon[page.row()][page.column()], page, player);
+    this(page, player, page.template().orElse(null));
+  }
+
+  /**
+   * ctor.
+   *
+   * @param page the page.
+   * @param player the player.
+   * @param template the template of the page.
+   */
+  private BasicInventoryContents(@NotNull final Page page, @NotNull final Player player,
+                                 @Nullable final PageTemplate template) {
+    this(template == null ? new Icon[page.row()][page.column()] : new Icon[page.row()][], page, player, template);
+    if (template != null) {
+      template.copyEditable(this.editableSlots);
+    }
   }
 
   @NotNull
   @Override
   public Icon[][] all() {
-    return this.contents.clone();
+    if (this.template == null) {
+      return this.contents.clone();
+    }
+    final var all = new Icon[this.contents.length][this.page.column()];
+    for (var row = 0; row < all.length; row++) {
+      for (var column = 0; column < all[row].length; column++) {
+        all[row][column] = this.getIcon(row, column);
+      }
+    }
+    return all;
+  }
+
+  @Override
+  public void beginBatch() {
+    this.batchDepth++;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents bind(final int row, final int column, @NotNull final Supplier<Icon> icon,
+                                @NotNull final Observable<?>... observables) {
+    final var binding = new SlotBinding(this, row, column, icon, observables);
+    this.bindings.add(binding);
+    binding.bind();
+    return this;
+  }
+
+  @Override
+  public void commitBatch() {
+    Preconditions.checkState(this.batchDepth > 0, "There is no batch to commit.");
+    if (--this.batchDepth > 0) {
+      return;
+    }
+    if (this.viewed) {
+      final var recorded = new FlushEvent();
+      recorded.begin();
+      final var columns = this.page.column();
+      for (var slot = this.dirty.nextSetBit(0); slot >= 0; slot = this.dirty.nextSetBit(slot + 1)) {
+        final var row = slot / columns;
+        final var column = slot % columns;
+        final var icon = this.getIcon(row, column);
+        this.update(row, column, icon == null ? null : this.calculate(row, column, icon));
+      }
+      recorded.finish(this.page.id(), this.player.getUniqueId(), this.dirty.cardinality());
+    }
+    this.dirty.clear();
+  }
+
+  @Nullable
+  @Override
+  public Icon getIcon(final int row, final int column) {
+    if (row < 0 || row >= this.contents.length) {
+      return null;
+    }
+    if (this.template != null && !this.overridden.contains(row, column)) {
+      return this.template.getIcon(row, column);
+    }
+    final var columns = this.contents[row];
+    if (columns == null || column < 0 || column >= columns.length) {
+      return null;
+    }
+    return columns[column];
   }
 
   @NotNull
@@ -116,6 +243,16 @@ public final class BasicInventoryContents implements InventoryContents {
     return this.editableSlots.contains(slot);
   }
 
+  @Override
+  public boolean isEditable(final int row, final int column) {
+    return this.editableSlots.contains(row, column);
+  }
+
+  @Override
+  public boolean isViewed() {
+    return this.viewed;
+  }
+
   @NotNull
   @Override
   public Optional<SlotIterator> iterator(@NotNull final String id) {
@@ -143,38 +280,98 @@ public final class BasicInventoryContents implements InventoryContents {
     return this.pagination;
   }
 
+  @NotNull
+  @Override
+  public InventoryContents pagination(@NotNull final Pagination pagination) {
+    pagination.page(this.pagination.getPage());
+    this.pagination = pagination;
+    return this;
+  }
+
   @NotNull
   @Override
   public Player player() {
     return this.player;
   }
 
+  @NotNull
+  @Override
+  public InventoryContents refresh(final int row, final int column) {
+    if (row >= 0 && row < this.contents.length && column >= 0 && column < this.page.column()) {
+      this.flush(row, column);
+    }
+    return this;
+  }
+
+  /**
+   * obtains the renderer that pushes the slot changes to the inventory.
+   *
+   * @return the renderer.
+   */
+  @NotNull
+  public SlotRenderer renderer() {
+    return this.renderer;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents reset(final int row, final int column) {
+    if (this.template == null) {
+      return this.set(row, column, null);
+    }
+    if (!this.overridden.contains(row, column)) {
+      return this;
+    }
+    this.overridden.remove(row, column);
+    final var columns = this.contents[row];
+    if (columns != null) {
+      columns[column] = null;
+    }
+    this.flush(row, column);
+    return this;
+  }
+
   @NotNull
   @Override
   public InventoryContents set(final int row, final int column, @Nullable final Icon item) {
-    if (row < 0 || row >= this.contents.length) {
+    if (row < 0 || row >= this.contents.length || column < 0 || column >= this.page.column()) {
       return this;
     }
-    if (column < 0 || column >= this.contents[row].length) {
+    var columns = this.contents[row];
+    if (columns == null) {
+      columns = new Icon[this.page.column()];
+      this.contents[row] = columns;
+    } else if (column >= columns.length) {
       return this;
     }
-    this.contents[row][column] = item;
-    if (item == null) {
-      this.update(row, column, null);
-    } else {
-      this.update(row, column, item.calculateItem(this));
+    columns[column] = item;
+    if (this.template != null) {
+      this.overridden.add(row, column);
     }
+    this.flush(row, column);
     return this;
   }
 
   @NotNull
   @Override
   public InventoryContents setEditable(@NotNull final SlotPos slot, final boolean editable) {
-    if (editable) {
-      this.editableSlots.add(slot);
-    } else {
-      this.editableSlots.remove(slot);
-    }
+    this.editableSlots.set(slot.getRow(), slot.getColumn(), editable);
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents setEditable(@NotNull final Pattern<Boolean> pattern, final int rowOffset,
+                                       final int columnOffset) {
+    this.editableSlots.setPattern(pattern, rowOffset, columnOffset);
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents setEditableRect(final int fromRow, final int fromColumn, final int toRow,
+                                           final int toColumn, final boolean editable) {
+    this.editableSlots.setRect(fromRow, fromColumn, toRow, toColumn, editable);
     return this;
   }
 
@@ -185,9 +382,80 @@ public final class BasicInventoryContents implements InventoryContents {
     return this;
   }
 
+  /**
+   * sets the viewed state of the contents.
+   * <p>
+   * this is maintained by the open and close lifecycle of the page and the session registry.
+   *
+   * @param viewed {@code true} if the player is currently looking at the contents.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  public InventoryContents setViewed(final boolean viewed) {
+    this.viewed = viewed;
+    return this;
+  }
+
+  /**
+   * unsubscribes all the slot bindings of {@code this} from their observables.
+   * <p>
+   * the session registry calls this when the session of {@code this} ends.
+   */
+  public void unbindAll() {
+    for (var binding = this.bindings.poll(); binding != null; binding = this.bindings.poll()) {
+      binding.unbind();
+    }
+  }
+
   @Override
   public void updateTitle(@NotNull final String newTitle) {
+    final var metrics = this.page.inventory().metrics();
+    final var start = metrics.start();
+    final var recorded = new TitleUpdateEvent();
+    recorded.begin();
     TitleUpdater.updateInventory(this.player, newTitle);
+    metrics.record(this.page.id(), Operation.TITLE, start);
+    recorded.finish(this.page.id(), this.player.getUniqueId(), this.page.row() * this.page.column());
+  }
+
+  /**
+   * calculates the item of the given icon under the watchdog, or takes the pre-rendered item of the template.
+   *
+   * @param row the row of the icon.
+   * @param column the column of the icon.
+   * @param icon the icon to calculate.
+   *
+   * @return the calculated item.
+   */
+  @NotNull
+  private ItemStack calculate(final int row, final int column, @NotNull final Icon icon) {
+    if (this.template != null && this.template.getIcon(row, column) == icon) {
+      return Objects.requireNonNull(this.template.getItem(row, column));
+    }
+    final var watchdog = this.page.inventory().watchdog();
+    final var start = watchdog.start();
+    final var item = icon.calculateItem(this);
+    watchdog.check(start, WatchPoint.ICON_CALCULATE, this.page.id(), row, column, null);
+    return item;
+  }
+
+  /**
+   * pushes the current icon of the given slot to the inventory, or marks the slot dirty inside a batch.
+   *
+   * @param row the row to flush.
+   * @param column the column to flush.
+   */
+  private void flush(final int row, final int column) {
+    if (this.batchDepth > 0) {
+      this.dirty.set(this.page.column() * row + column);
+      return;
+    }
+    if (!this.viewed) {
+      return;
+    }
+    final var icon = this.getIcon(row, column);
+    this.update(row, column, icon == null ? null : this.calculate(row, column, icon));
   }
 
   /**
@@ -198,8 +466,7 @@ public final class BasicInventoryContents implements InventoryContents {
    * @param item the item to update.
    */
   private void update(final int row, final int column, @Nullable final ItemStack item) {
-    if (SmartInventory.getOpenedPlayers(this.page).contains(this.player())) {
-      this.getTopInventory().setItem(this.page.column() * row + column, item);
-    }
+    this.renderer.render(this.getTopInventory(), this.page.column() * row + column, item,
+      this.isEditable(row, column));
   }
 }
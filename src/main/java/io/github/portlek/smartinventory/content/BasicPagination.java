@@ -26,7 +26,9 @@
 package io.github.portlek.smartinventory.content;
 
 import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
 import io.github.portlek.smartinventory.Pagination;
+import io.github.portlek.smartinventory.SlotIterator;
 import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
 
@@ -35,6 +37,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class BasicPagination implements Pagination {
 
+  /**
+   * the painter.
+   */
+  private final PaginationPainter painter = new PaginationPainter();
+
   /**
    * the current page.
    */
@@ -112,6 +119,18 @@ public final class BasicPagination implements Pagination {
     return this;
   }
 
+  @NotNull
+  @Override
+  public Pagination renderInto(@NotNull final SlotIterator iterator) {
+    this.painter.paint(this.getPageIcons(), iterator);
+    return this;
+  }
+
+  @Override
+  public boolean repaint(@NotNull final InventoryContents contents) {
+    return this.painter.repaint(this, contents);
+  }
+
   @NotNull
   @Override
   public Pagination setIcons(@NotNull final Icon... icons) {
@@ -29,12 +29,12 @@ import com.google.common.base.Preconditions;
 import io.github.portlek.smartinventory.Icon;
 import io.github.portlek.smartinventory.InventoryContents;
 import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.page.BasicPage;
+import io.github.portlek.smartinventory.util.CompiledPattern;
 import io.github.portlek.smartinventory.util.Pattern;
-import io.github.portlek.smartinventory.util.SlotPos;
-import java.util.HashSet;
+import io.github.portlek.smartinventory.util.SlotMask;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -46,7 +46,7 @@ public final class BasicSlotIterator implements SlotIterator {
   /**
    * the blacklisted.
    */
-  private final Set<SlotPos> blacklisted = new HashSet<>();
+  private final SlotMask blacklisted = new SlotMask();
 
   /**
    * the contents.
@@ -122,6 +122,24 @@ public final class BasicSlotIterator implements SlotIterator {
    */
   private int patternRowOffset;
 
+  /**
+   * the traversal plan, dropped when the blacklist or the patterns change.
+   */
+  @Nullable
+  private SlotPlan plan;
+
+  /**
+   * the compiled blacklist pattern that the plan was obtained with.
+   */
+  @Nullable
+  private CompiledPattern<Boolean> planBlacklist;
+
+  /**
+   * the compiled pattern that the plan was obtained with.
+   */
+  @Nullable
+  private CompiledPattern<Boolean> planPattern;
+
   /**
    * the row.
    */
@@ -173,14 +191,16 @@ public final class BasicSlotIterator implements SlotIterator {
   @Override
   public SlotIterator blacklist(final int index) {
     final int count = this.contents.page().column();
-    this.blacklisted.add(SlotPos.of(index / count, index % count));
+    this.blacklisted.add(index / count, index % count);
+    this.plan = null;
     return this;
   }
 
   @NotNull
   @Override
   public SlotIterator blacklist(final int row, final int column) {
-    this.blacklisted.add(SlotPos.of(row, column));
+    this.blacklisted.add(row, column);
+    this.plan = null;
     return this;
   }
 
@@ -194,6 +214,7 @@ public final class BasicSlotIterator implements SlotIterator {
       pattern.setDefault(false);
     }
     this.blacklistPattern = pattern;
+    this.plan = null;
     return this;
   }
 
@@ -209,6 +230,12 @@ public final class BasicSlotIterator implements SlotIterator {
     return this;
   }
 
+  @NotNull
+  @Override
+  public InventoryContents contents() {
+    return this.contents;
+  }
+
   @Override
   public boolean doesAllowOverride() {
     return this.allowOverride;
@@ -238,6 +265,30 @@ public final class BasicSlotIterator implements SlotIterator {
       && this.column == this.endColumn;
   }
 
+  @NotNull
+  @Override
+  public SlotIterator fill(@NotNull final List<Icon> icons, @NotNull final SlotMask placed) {
+    this.contents.beginBatch();
+    try {
+      for (final var icon : icons) {
+        if (this.advance()) {
+          if (icon == null) {
+            this.contents.reset(this.row, this.column);
+          } else {
+            this.contents.set(this.row, this.column, icon);
+            placed.add(this.row, this.column);
+          }
+        }
+        if (this.ended()) {
+          break;
+        }
+      }
+      return this;
+    } finally {
+      this.contents.commitBatch();
+    }
+  }
+
   @NotNull
   @Override
   public Optional<Icon> get() {
@@ -247,30 +298,7 @@ public final class BasicSlotIterator implements SlotIterator {
   @NotNull
   @Override
   public SlotIterator next() {
-    if (this.ended()) {
-      this.started = true;
-      return this;
-    }
-    do {
-      if (this.started) {
-        if (this.type == Type.HORIZONTAL) {
-          ++this.column;
-          this.column %= this.contents.page().column();
-          if (this.column == 0) {
-            this.row++;
-          }
-        } else if (this.type == Type.VERTICAL) {
-          ++this.row;
-          this.row %= this.contents.page().row();
-          if (this.row == 0) {
-            this.column++;
-          }
-        }
-      } else {
-        this.started = true;
-      }
-    }
-    while (!this.canPlace() && !this.ended());
+    this.advance();
     return this;
   }
 
@@ -348,44 +376,77 @@ public final class BasicSlotIterator implements SlotIterator {
       pattern.setDefault(false);
     }
     this.pattern = pattern;
+    this.plan = null;
     return this;
   }
 
+  /**
+   * moves the cursor to the next slot of the plan that can take an icon, or to the end position if there is none.
+   *
+   * @return {@code true} if an icon can be placed at the new position.
+   */
+  private boolean advance() {
+    if (this.ended()) {
+      this.started = true;
+      return this.canPlace();
+    }
+    final var plan = this.plan();
+    final var end = plan.ordinal(this.endRow, this.endColumn);
+    var index = plan.find(plan.ordinal(this.row, this.column) + (this.started ? 1 : 0));
+    this.started = true;
+    for (; index < plan.size(); index++) {
+      final var ordinal = plan.get(index);
+      if (ordinal > end) {
+        break;
+      }
+      final var row = plan.row(ordinal);
+      final var column = plan.column(ordinal);
+      if (this.allowOverride || this.contents.getIcon(row, column) == null) {
+        this.row = row;
+        this.column = column;
+        return true;
+      }
+    }
+    this.row = this.endRow;
+    this.column = this.endColumn;
+    return this.canPlace();
+  }
+
   /**
    * checks if the item can place.
    *
    * @return {@code true} if the item can place the current location.
    */
   private boolean canPlace() {
-    final var patternAllows = new AtomicBoolean(true);
-    Optional.ofNullable(this.pattern).ifPresent(booleanPattern ->
-      patternAllows.set(this.checkPattern(booleanPattern, this.patternRowOffset, this.patternColumnOffset)));
-    final var blacklistPatternAllows = new AtomicBoolean(true);
-    Optional.ofNullable(this.blacklistPattern).ifPresent(booleanPattern ->
-      blacklistPatternAllows.set(!this.checkPattern(booleanPattern, this.blacklistPatternRowOffset, this.blacklistPatternColumnOffset)));
-    return !this.blacklisted.contains(SlotPos.of(this.row, this.column)) &&
-      (this.allowOverride || this.get().isEmpty()) &&
-      patternAllows.get() &&
-      blacklistPatternAllows.get();
+    return this.plan().contains(this.row, this.column) &&
+      (this.allowOverride || this.contents.getIcon(this.row, this.column) == null);
   }
 
   /**
-   * checks the pattern.
+   * obtains the traversal plan of the current blacklist and patterns from the page's cache, or compiles it if the page
+   * is not a {@link BasicPage}.
    *
-   * @param pattern the pattern to check.
-   * @param rowOffset the raw offset to check.
-   * @param columnOffset the column offset to check.
-   *
-   * @return {@code true} if the checking was successful.
+   * @return the traversal plan.
    */
-  private boolean checkPattern(@NotNull final Pattern<Boolean> pattern, final int rowOffset, final int columnOffset) {
-    final var object = pattern.getObject(this.row() - rowOffset, this.column() - columnOffset);
-    if (pattern.isWrapAround()) {
-      return object.orElse(false);
+  @NotNull
+  private SlotPlan plan() {
+    final var page = this.contents.page();
+    final var compiledPattern = this.pattern == null ? null : this.pattern.compile();
+    final var compiledBlacklist = this.blacklistPattern == null ? null : this.blacklistPattern.compile();
+    final var current = this.plan;
+    if (current != null && this.planPattern == compiledPattern && this.planBlacklist == compiledBlacklist) {
+      final var key = current.getKey();
+      if (key.getRows() == page.row() && key.getColumns() == page.column()) {
+        return current;
+      }
     }
-    return this.row() >= rowOffset && this.column() >= columnOffset &&
-      this.row() < pattern.getRowCount() + rowOffset &&
-      this.column() < pattern.getColumnCount() + columnOffset &&
-      object.orElse(false);
+    final var key = new SlotPlanKey(this.blacklisted.copy(), compiledBlacklist, this.blacklistPatternColumnOffset,
+      this.blacklistPatternRowOffset, page.column(), compiledPattern, this.patternColumnOffset, this.patternRowOffset,
+      page.row(), this.type);
+    final var plan = page instanceof BasicPage ? ((BasicPage) page).plan(key) : new SlotPlan(key);
+    this.plan = plan;
+    this.planBlacklist = compiledBlacklist;
+    this.planPattern = compiledPattern;
+    return plan;
   }
 }
@@ -0,0 +1,431 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.content;
+
+import com.google.common.base.Preconditions;
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Pagination;
+import io.github.portlek.smartinventory.PaginationSource;
+import io.github.portlek.smartinventory.SlotIterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a {@link Pagination} implementation that loads the entries of a page from a {@link PaginationSource} and maps
+ * them to icons only when the page is needed.
+ * <p>
+ * the icons of the recently used pages are kept in a small LRU cache, so going back and forth between neighbor
+ * pages does not load them again. call {@link #invalidate()} when the source data changes.
+ * <p>
+ * with {@link #prefetch(Executor)}, the previous and the next pages are loaded off the main thread after a page is
+ * rendered, so the navigation applies an already built page. in that case the source and the mapper must be safe
+ * to call from the executor's threads.
+ * <p>
+ * {@link #setIcons(Icon...)} replaces the source and the mapper with the given icons, so the pagination pages a fixed
+ * list like {@link BasicPagination}, with the same cache and prefetch.
+ *
+ * @param <T> type of the entries.
+ */
+public final class LazyPagination<T> implements Pagination {
+
+  /**
+   * the default count of the cached pages.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 3;
+
+  /**
+   * the page icons by page index, in access order.
+   */
+  private final Map<Integer, Icon[]> cache;
+
+  /**
+   * the prefetch cache hit count.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * the mapper.
+   */
+  @NotNull
+  private final Function<T, Icon> mapper;
+
+  /**
+   * the prefetch cache miss count.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * the painter.
+   */
+  private final PaginationPainter painter = new PaginationPainter();
+
+  /**
+   * the pages that are being loaded or were loaded by the prefetch.
+   */
+  private final Map<Integer, CompletableFuture<Icon[]>> prefetched = new ConcurrentHashMap<>();
+
+  /**
+   * the size.
+   */
+  @NotNull
+  private final IntSupplier size;
+
+  /**
+   * the source.
+   */
+  @NotNull
+  private final PaginationSource<T> source;
+
+  /**
+   * the current page.
+   */
+  private int currentPage;
+
+  /**
+   * the disposed.
+   */
+  private volatile boolean disposed;
+
+  /**
+   * the prefetch executor.
+   */
+  @Nullable
+  private Executor executor;
+
+  /**
+   * the fixed icons that replaced the source.
+   */
+  @Nullable
+  private volatile Icon[] icons;
+
+  /**
+   * the icons per page.
+   */
+  private int iconsPerPage = 5;
+
+  /**
+   * ctor.
+   *
+   * @param size the supplier of the total entry count.
+   * @param source the source to load the entries.
+   * @param mapper the mapper to create the icons from the entries.
+   * @param cacheSize the count of the pages to keep in the cache.
+   */
+  public LazyPagination(@NotNull final IntSupplier size, @NotNull final PaginationSource<T> source,
+                        @NotNull final Function<T, Icon> mapper, final int cacheSize) {
+    Preconditions.checkArgument(cacheSize > 0, "The cache size must be positive.");
+    this.size = size;
+    this.source = source;
+    this.mapper = mapper;
+    this.cache = new LinkedHashMap<>(cacheSize + 1, 1.0f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Integer, Icon[]> eldest) {
+        return this.size() > cacheSize;
+      }
+    };
+  }
+
+  /**
+   * ctor.
+   *
+   * @param size the supplier of the total entry count.
+   * @param source the source to load the entries.
+   * @param mapper the mapper to create the icons from the entries.
+   */
+  public LazyPagination(@NotNull final IntSupplier size, @NotNull final PaginationSource<T> source,
+                        @NotNull final Function<T, Icon> mapper) {
+    this(size, source, mapper, LazyPagination.DEFAULT_CACHE_SIZE);
+  }
+
+  @Override
+  public void dispose() {
+    this.disposed = true;
+    this.prefetched.values().forEach(future -> future.cancel(false));
+    this.prefetched.clear();
+    this.cache.clear();
+  }
+
+  @NotNull
+  @Override
+  public Pagination first() {
+    this.currentPage = 0;
+    return this;
+  }
+
+  @Override
+  public int getPage() {
+    return this.currentPage;
+  }
+
+  /**
+   * obtains the count of the pages that were served from the cache or an already loaded prefetch.
+   *
+   * @return hit count.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * obtains the count of the pages that had to be loaded, or waited for, on the calling thread.
+   *
+   * @return miss count.
+   */
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  @NotNull
+  @Override
+  public Icon[] getPageIcons() {
+    final var page = this.currentPage;
+    var icons = this.cache.get(page);
+    if (icons == null) {
+      icons = this.take(page);
+      this.cache.put(page, icons);
+    } else {
+      this.hits.increment();
+    }
+    this.prefetched.entrySet().removeIf(entry -> {
+      final var stale = Math.abs(entry.getKey() - page) > 1;
+      if (stale) {
+        entry.getValue().cancel(false);
+      }
+      return stale;
+    });
+    this.prefetch(page - 1);
+    this.prefetch(page + 1);
+    return icons.clone();
+  }
+
+  /**
+   * clears the cached pages, so they are loaded from the source again.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  public LazyPagination<T> invalidate() {
+    this.prefetched.values().forEach(future -> future.cancel(false));
+    this.prefetched.clear();
+    this.cache.clear();
+    return this;
+  }
+
+  @Override
+  public boolean isFirst() {
+    return this.currentPage == 0;
+  }
+
+  @Override
+  public boolean isLast() {
+    return this.currentPage >= this.pageCount() - 1;
+  }
+
+  @NotNull
+  @Override
+  public Pagination last() {
+    return this.page(Math.max(0, this.pageCount() - 1));
+  }
+
+  @NotNull
+  @Override
+  public Pagination next() {
+    if (!this.isLast()) {
+      this.currentPage++;
+    }
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public Pagination page(final int page) {
+    this.currentPage = page;
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public Pagination previous() {
+    if (!this.isFirst()) {
+      this.currentPage--;
+    }
+    return this;
+  }
+
+  /**
+   * enables the prefetch of the neighbor pages on the given executor.
+   *
+   * @param executor the executor to load the pages.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  public LazyPagination<T> prefetch(@NotNull final Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  /**
+   * enables the prefetch of the neighbor pages on the async scheduler of the given plugin.
+   *
+   * @param plugin the plugin to schedule.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  public LazyPagination<T> prefetch(@NotNull final Plugin plugin) {
+    return this.prefetch(runnable -> Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable));
+  }
+
+  @NotNull
+  @Override
+  public Pagination renderInto(@NotNull final SlotIterator iterator) {
+    this.painter.paint(this.getPageIcons(), iterator);
+    return this;
+  }
+
+  @Override
+  public boolean repaint(@NotNull final InventoryContents contents) {
+    return this.painter.repaint(this, contents);
+  }
+
+  /**
+   * replaces the source and the mapper with the given icons and clears the cached pages.
+   *
+   * @param icons the icons to set.
+   *
+   * @return {@code this}, for chained calls.
+   */
+  @NotNull
+  @Override
+  public Pagination setIcons(@NotNull final Icon... icons) {
+    this.icons = icons.clone();
+    this.invalidate();
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public Pagination setIconsPerPage(final int iconsPerPage) {
+    if (this.iconsPerPage != iconsPerPage) {
+      this.iconsPerPage = iconsPerPage;
+      this.invalidate();
+    }
+    return this;
+  }
+
+  /**
+   * loads the icons of the given page from the fixed icons if they are set, otherwise from the source.
+   *
+   * @param page the page to load.
+   * @param iconsPerPage the icons per page to load.
+   *
+   * @return the icons of the page, padded with {@code null} up to the icons per page.
+   */
+  @NotNull
+  private Icon[] load(final int page, final int iconsPerPage) {
+    final var icons = new Icon[iconsPerPage];
+    if (page < 0) {
+      return icons;
+    }
+    final var fixed = this.icons;
+    if (fixed != null) {
+      final var offset = page * iconsPerPage;
+      if (offset < fixed.length) {
+        System.arraycopy(fixed, offset, icons, 0, Math.min(iconsPerPage, fixed.length - offset));
+      }
+      return icons;
+    }
+    final var entries = this.source.range(page * iconsPerPage, iconsPerPage);
+    final var count = Math.min(entries.size(), icons.length);
+    for (var index = 0; index < count; index++) {
+      icons[index] = this.mapper.apply(entries.get(index));
+    }
+    return icons;
+  }
+
+  /**
+   * calculates the page count.
+   *
+   * @return the page count.
+   */
+  private int pageCount() {
+    final var fixed = this.icons;
+    final var total = fixed == null ? this.size.getAsInt() : fixed.length;
+    return (int) Math.ceil((double) total / (double) this.iconsPerPage);
+  }
+
+  /**
+   * starts loading the given page on the prefetch executor, if it is not loaded or being loaded yet.
+   *
+   * @param page the page to prefetch.
+   */
+  private void prefetch(final int page) {
+    final var current = this.executor;
+    if (current == null || this.disposed || page < 0 || page >= this.pageCount() ||
+      this.cache.containsKey(page) || this.prefetched.containsKey(page)) {
+      return;
+    }
+    final var perPage = this.iconsPerPage;
+    this.prefetched.put(page, CompletableFuture.supplyAsync(() -> this.load(page, perPage), current));
+  }
+
+  /**
+   * takes the given page from the prefetch, or loads it on the calling thread.
+   *
+   * @param page the page to take.
+   *
+   * @return the icons of the page.
+   */
+  @NotNull
+  private Icon[] take(final int page) {
+    final var future = this.prefetched.remove(page);
+    if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+      this.hits.increment();
+      return future.join();
+    }
+    this.misses.increment();
+    if (future != null && !future.isCancelled()) {
+      try {
+        return future.join();
+      } catch (final CompletionException exception) {
+        // the prefetch failed, load it again on the calling thread.
+      }
+    }
+    return this.load(page, this.iconsPerPage);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Pagination;
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.util.SlotMask;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that adds the page icons of a {@link Pagination} to a {@link SlotIterator} and remembers the filled
+ * slots, so the page can be repainted in place.
+ */
+public final class PaginationPainter {
+
+  /**
+   * the slots that were filled by the last paint.
+   */
+  private final SlotMask painted = new SlotMask();
+
+  /**
+   * the iterator of the last paint.
+   */
+  @Nullable
+  private SlotIterator iterator;
+
+  /**
+   * adds the given icons to the given iterator.
+   *
+   * @param icons the icons to add.
+   * @param iterator the iterator to add.
+   */
+  public void paint(@NotNull final Icon[] icons, @NotNull final SlotIterator iterator) {
+    this.iterator = iterator;
+    this.painted.clear();
+    iterator.fill(Arrays.asList(icons), this.painted);
+  }
+
+  /**
+   * repaints the current page of the given pagination into the slots of the last paint.
+   * <p>
+   * only the slots of the previous and the current page are marked in the batch, the other slots are not touched.
+   *
+   * @param pagination the pagination to repaint.
+   * @param contents the contents to repaint.
+   *
+   * @return {@code true} if the page was repainted, {@code false} if nothing was painted yet.
+   *
+   * @see Pagination#repaint(InventoryContents)
+   */
+  public boolean repaint(@NotNull final Pagination pagination, @NotNull final InventoryContents contents) {
+    final var current = this.iterator;
+    if (current == null) {
+      return false;
+    }
+    contents.batch(batch -> {
+      final var rows = batch.page().row();
+      final var columns = batch.page().column();
+      for (var row = 0; row < rows; row++) {
+        for (var column = 0; column < columns; column++) {
+          if (this.painted.contains(row, column)) {
+            batch.reset(row, column);
+          }
+        }
+      }
+      pagination.renderInto(current.reset());
+    });
+    return true;
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.observer.Observable;
+import io.github.portlek.observer.Target;
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that binds a slot of an {@link InventoryContents} to {@link Observable}s, so the slot is recomputed and
+ * flushed when one of them changes.
+ * <p>
+ * the contents unbind their bindings when their session ends, and the contents are referenced weakly, so a binding
+ * never keeps a closed session alive. the binding also unsubscribes itself on the first change after its contents
+ * are collected or its slot is set to another icon.
+ * <p>
+ * the changes that are notified off the main thread are coalesced into one render on the next tick, so the
+ * inventory is only changed on the main thread.
+ */
+public final class SlotBinding implements Target<Object> {
+
+  /**
+   * the column.
+   */
+  private final int column;
+
+  /**
+   * the contents.
+   */
+  @NotNull
+  private final WeakReference<InventoryContents> contents;
+
+  /**
+   * the icon supplier.
+   */
+  @NotNull
+  private final Supplier<Icon> icon;
+
+  /**
+   * the observables.
+   */
+  @NotNull
+  private final Observable<?>[] observables;
+
+  /**
+   * the row.
+   */
+  private final int row;
+
+  /**
+   * the scheduled render.
+   */
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * the bound.
+   */
+  private volatile boolean bound;
+
+  /**
+   * the icon that was set by the last render.
+   */
+  @Nullable
+  private volatile Icon current;
+
+  /**
+   * ctor.
+   *
+   * @param contents the contents.
+   * @param row the row.
+   * @param column the column.
+   * @param icon the icon supplier.
+   * @param observables the observables.
+   */
+  public SlotBinding(@NotNull final InventoryContents contents, final int row, final int column,
+                     @NotNull final Supplier<Icon> icon, @NotNull final Observable<?>... observables) {
+    this.contents = new WeakReference<>(contents);
+    this.row = row;
+    this.column = column;
+    this.icon = icon;
+    this.observables = observables.clone();
+  }
+
+  /**
+   * subscribes the given target to the given observable.
+   *
+   * @param observable the observable to subscribe.
+   * @param target the target to subscribe.
+   */
+  @SuppressWarnings("unchecked")
+  private static void subscribe(@NotNull final Observable<?> observable, @NotNull final Target<Object> target) {
+    ((Observable<Object>) observable).subscribe(target);
+  }
+
+  /**
+   * unsubscribes the given target from the given observable.
+   *
+   * @param observable the observable to unsubscribe.
+   * @param target the target to unsubscribe.
+   */
+  @SuppressWarnings("unchecked")
+  private static void unsubscribe(@NotNull final Observable<?> observable, @NotNull final Target<Object> target) {
+    ((Observable<Object>) observable).unsubscribe(target);
+  }
+
+  /**
+   * renders the slot and subscribes to the observables.
+   */
+  public void bind() {
+    final var contents = this.contents.get();
+    if (contents == null) {
+      return;
+    }
+    this.bound = true;
+    this.render(contents);
+    for (final var observable : this.observables) {
+      SlotBinding.subscribe(observable, this);
+    }
+  }
+
+  /**
+   * unsubscribes from the observables.
+   */
+  public void unbind() {
+    this.bound = false;
+    for (final var observable : this.observables) {
+      SlotBinding.unsubscribe(observable, this);
+    }
+  }
+
+  @Override
+  public void update(@NotNull final Object argument) {
+    if (Bukkit.isPrimaryThread()) {
+      this.refresh();
+      return;
+    }
+    final var contents = this.contents.get();
+    if (contents == null) {
+      this.unbind();
+      return;
+    }
+    if (this.scheduled.compareAndSet(false, true)) {
+      Bukkit.getScheduler().runTask(contents.page().inventory().getPlugin(), () -> {
+        this.scheduled.set(false);
+        this.refresh();
+      });
+    }
+  }
+
+  /**
+   * renders the slot again, or unbinds if the contents are collected or the slot is set to another icon.
+   */
+  private void refresh() {
+    if (!this.bound) {
+      return;
+    }
+    final var contents = this.contents.get();
+    if (contents == null || contents.getIcon(this.row, this.column) != this.current) {
+      this.unbind();
+      return;
+    }
+    this.render(contents);
+  }
+
+  /**
+   * computes the icon and sets it into the slot, which flushes only that slot to the viewer.
+   *
+   * @param contents the contents to render.
+   */
+  private void render(@NotNull final InventoryContents contents) {
+    final var icon = this.icon.get();
+    this.current = icon;
+    contents.set(this.row, this.column, icon);
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.util.CompiledPattern;
+import io.github.portlek.smartinventory.util.SlotMask;
+import java.util.Arrays;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an immutable traversal plan of a {@link SlotIterator}, the slots that pass the blacklist, the pattern and the
+ * blacklist pattern of the iterator, in the order of its type.
+ * <p>
+ * the slots are kept as ordinals, the position of the slot in the traversal order of the whole page, so the iterators
+ * only walk a cursor over the plan. the plans are cached by {@link io.github.portlek.smartinventory.Page#plan(
+ * SlotPlanKey)} and shared by all the sessions of the page.
+ */
+public final class SlotPlan {
+
+  /**
+   * the allowed slots.
+   */
+  @NotNull
+  private final SlotMask allowed = new SlotMask();
+
+  /**
+   * the key.
+   */
+  @Getter
+  @NotNull
+  private final SlotPlanKey key;
+
+  /**
+   * the ordinals of the allowed slots, in ascending order.
+   */
+  @NotNull
+  private final int[] ordinals;
+
+  /**
+   * ctor.
+   *
+   * @param key the key to plan.
+   */
+  public SlotPlan(@NotNull final SlotPlanKey key) {
+    this.key = key;
+    final var slots = key.getRows() * key.getColumns();
+    final var ordinals = new int[slots];
+    var size = 0;
+    for (var ordinal = 0; ordinal < slots; ordinal++) {
+      final var row = this.row(ordinal);
+      final var column = this.column(ordinal);
+      if (key.getBlacklist().contains(row, column)) {
+        continue;
+      }
+      if (key.getPattern() != null &&
+        !SlotPlan.check(key.getPattern(), row, column, key.getPatternRowOffset(), key.getPatternColumnOffset())) {
+        continue;
+      }
+      if (key.getBlacklistPattern() != null &&
+        SlotPlan.check(key.getBlacklistPattern(), row, column, key.getBlacklistPatternRowOffset(),
+          key.getBlacklistPatternColumnOffset())) {
+        continue;
+      }
+      ordinals[size++] = ordinal;
+      this.allowed.add(row, column);
+    }
+    this.ordinals = Arrays.copyOf(ordinals, size);
+  }
+
+  /**
+   * checks the given pattern at the given slot.
+   *
+   * @param pattern the pattern to check.
+   * @param row the row to check.
+   * @param column the column to check.
+   * @param rowOffset the row offset of the pattern.
+   * @param columnOffset the column offset of the pattern.
+   *
+   * @return {@code true} if the pattern has {@code true} at the slot.
+   */
+  private static boolean check(@NotNull final CompiledPattern<Boolean> pattern, final int row, final int column,
+                               final int rowOffset, final int columnOffset) {
+    final var patternRow = row - rowOffset;
+    final var patternColumn = column - columnOffset;
+    if (!pattern.isWrapAround() && (patternRow < 0 || patternColumn < 0 ||
+      patternRow >= pattern.getRowCount() || patternColumn >= pattern.getColumnCount())) {
+      return false;
+    }
+    return Boolean.TRUE.equals(pattern.getObject(patternRow, patternColumn));
+  }
+
+  /**
+   * obtains the column of the given ordinal.
+   *
+   * @param ordinal the ordinal to obtain.
+   *
+   * @return the column of the ordinal.
+   */
+  public int column(final int ordinal) {
+    if (this.key.getType() == SlotIterator.Type.HORIZONTAL) {
+      return ordinal % this.key.getColumns();
+    }
+    return ordinal / this.key.getRows();
+  }
+
+  /**
+   * checks if the given slot passes the plan.
+   *
+   * @param row the row to check.
+   * @param column the column to check.
+   *
+   * @return {@code true} if the slot is allowed.
+   */
+  public boolean contains(final int row, final int column) {
+    return row < this.key.getRows() && column < this.key.getColumns() && this.allowed.contains(row, column);
+  }
+
+  /**
+   * finds the index of the first allowed ordinal that is equal to or after the given ordinal.
+   *
+   * @param ordinal the ordinal to find.
+   *
+   * @return the index of the ordinal, or {@link #size()} if there is none.
+   */
+  public int find(final int ordinal) {
+    final var index = Arrays.binarySearch(this.ordinals, ordinal);
+    return index < 0 ? -index - 1 : index;
+  }
+
+  /**
+   * obtains the ordinal at the given index of the plan.
+   *
+   * @param index the index to obtain.
+   *
+   * @return the ordinal.
+   */
+  public int get(final int index) {
+    return this.ordinals[index];
+  }
+
+  /**
+   * obtains the ordinal of the given slot.
+   *
+   * @param row the row to obtain.
+   * @param column the column to obtain.
+   *
+   * @return the ordinal of the slot.
+   */
+  public int ordinal(final int row, final int column) {
+    if (this.key.getType() == SlotIterator.Type.HORIZONTAL) {
+      return row * this.key.getColumns() + column;
+    }
+    return column * this.key.getRows() + row;
+  }
+
+  /**
+   * obtains the row of the given ordinal.
+   *
+   * @param ordinal the ordinal to obtain.
+   *
+   * @return the row of the ordinal.
+   */
+  public int row(final int ordinal) {
+    if (this.key.getType() == SlotIterator.Type.HORIZONTAL) {
+      return ordinal / this.key.getColumns();
+    }
+    return ordinal % this.key.getRows();
+  }
+
+  /**
+   * obtains the allowed slot count.
+   *
+   * @return the allowed slot count.
+   */
+  public int size() {
+    return this.ordinals.length;
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.util.CompiledPattern;
+import io.github.portlek.smartinventory.util.SlotMask;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents everything that decides the static slots of a {@link SlotPlan}.
+ * <p>
+ * the patterns are compared by their compiled values, so the equal patterns that are created for every page open
+ * share the same plan.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public final class SlotPlanKey {
+
+  /**
+   * the blacklisted slots.
+   */
+  @NotNull
+  private final SlotMask blacklist;
+
+  /**
+   * the blacklist pattern.
+   */
+  @Nullable
+  private final CompiledPattern<Boolean> blacklistPattern;
+
+  /**
+   * the blacklist pattern column offset.
+   */
+  private final int blacklistPatternColumnOffset;
+
+  /**
+   * the blacklist pattern row offset.
+   */
+  private final int blacklistPatternRowOffset;
+
+  /**
+   * the column count of the page.
+   */
+  private final int columns;
+
+  /**
+   * the pattern.
+   */
+  @Nullable
+  private final CompiledPattern<Boolean> pattern;
+
+  /**
+   * the pattern column offset.
+   */
+  private final int patternColumnOffset;
+
+  /**
+   * the pattern row offset.
+   */
+  private final int patternRowOffset;
+
+  /**
+   * the row count of the page.
+   */
+  private final int rows;
+
+  /**
+   * the type.
+   */
+  @NotNull
+  private final SlotIterator.Type type;
+}
@@ -83,7 +83,7 @@ public final class IcClickEvent implements ClickEvent {
 
   @Override
   public int column() {
-    return this.event.getSlot() % 9;
+    return this.event.getSlot() % this.contents.page().column();
   }
 
   @NotNull
@@ -106,7 +106,7 @@ public final class IcClickEvent implements ClickEvent {
 
   @Override
   public int row() {
-    return this.event.getSlot() / 9;
+    return this.event.getSlot() / this.contents.page().column();
   }
 
   @NotNull
@@ -61,9 +61,18 @@ public final class BasicHandle<T extends SmartEvent> implements Handle<T> {
 
   @Override
   public void accept(@NotNull final T t) {
-    if (this.requirements.stream().allMatch(req -> req.test(t))) {
-      this.consumer.accept(t);
+    for (final var requirement : this.requirements) {
+      if (!requirement.test(t)) {
+        return;
+      }
     }
+    this.consumer.accept(t);
+  }
+
+  @NotNull
+  @Override
+  public Class<?> origin() {
+    return this.consumer.getClass();
   }
 
   @NotNull
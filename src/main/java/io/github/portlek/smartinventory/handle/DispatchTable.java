@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.handle;
+
+import io.github.portlek.smartinventory.Handle;
+import io.github.portlek.smartinventory.event.abs.SmartEvent;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
+import io.github.portlek.smartinventory.watchdog.Watchdog;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an immutable list of {@link Handle}s that dispatches the events through a lazily built table, which maps each
+ * concrete event class to the array of the handles that accept it.
+ * <p>
+ * adding a handle creates a new table, so the owners replace their table on each add and the compiled entries of
+ * the old table are dropped with it.
+ *
+ * @param <E> type of the events.
+ */
+public final class DispatchTable<E extends SmartEvent> {
+
+  /**
+   * the empty table.
+   */
+  private static final DispatchTable<?> EMPTY = new DispatchTable<>(new Handle<?>[0]);
+
+  /**
+   * the compiled handles by concrete event class.
+   */
+  private final Map<Class<?>, Handle<?>[]> compiled = new ConcurrentHashMap<>();
+
+  /**
+   * the handles.
+   */
+  @NotNull
+  private final Handle<?>[] handles;
+
+  /**
+   * ctor.
+   *
+   * @param handles the handles.
+   */
+  private DispatchTable(@NotNull final Handle<?>[] handles) {
+    this.handles = handles;
+  }
+
+  /**
+   * obtains the empty table.
+   *
+   * @param <E> type of the events.
+   *
+   * @return the empty table.
+   */
+  @NotNull
+  public static <E extends SmartEvent> DispatchTable<E> empty() {
+    return (DispatchTable<E>) DispatchTable.EMPTY;
+  }
+
+  /**
+   * runs the handles that accept the given event's class.
+   *
+   * @param event the event to dispatch.
+   * @param <T> type of the event.
+   */
+  public <T extends E> void accept(@NotNull final T event) {
+    for (final var target : this.targets(event.getClass())) {
+      ((Handle<T>) target).accept(event);
+    }
+  }
+
+  /**
+   * runs the handles that accept the given event's class, and checks each of them with the given watchdog, so a slow
+   * invocation is reported with the {@link Handle#origin()} of the handle that was slow.
+   *
+   * @param event the event to dispatch.
+   * @param watchdog the watchdog to check.
+   * @param point the watch point.
+   * @param page the page id.
+   * @param row the row of the slot, or {@code -1} if the event does not belong to a slot.
+   * @param column the column of the slot, or {@code -1} if the event does not belong to a slot.
+   * @param <T> type of the event.
+   */
+  public <T extends E> void accept(@NotNull final T event, @NotNull final Watchdog watchdog,
+                                   @NotNull final WatchPoint point, @NotNull final String page, final int row,
+                                   final int column) {
+    final var type = event.getClass();
+    for (final var target : this.targets(type)) {
+      final var start = watchdog.start();
+      ((Handle<T>) target).accept(event);
+      watchdog.check(start, point, page, row, column, type, target.origin());
+    }
+  }
+
+  /**
+   * checks if the table has no handles.
+   *
+   * @return {@code true} if there is no handle.
+   */
+  public boolean isEmpty() {
+    return this.handles.length == 0;
+  }
+
+  /**
+   * obtains the handle count.
+   *
+   * @return handle count.
+   */
+  public int size() {
+    return this.handles.length;
+  }
+
+  /**
+   * creates a new table with the given handle added.
+   *
+   * @param handle the handle to add.
+   *
+   * @return a new table.
+   */
+  @NotNull
+  public DispatchTable<E> with(@NotNull final Handle<? extends E> handle) {
+    final var added = Arrays.copyOf(this.handles, this.handles.length + 1);
+    added[this.handles.length] = handle;
+    return new DispatchTable<>(added);
+  }
+
+  /**
+   * creates a new table with the given handles added.
+   *
+   * @param handles the handles to add.
+   *
+   * @return a new table.
+   */
+  @NotNull
+  public DispatchTable<E> withAll(@NotNull final Collection<? extends Handle<? extends E>> handles) {
+    if (handles.isEmpty()) {
+      return this;
+    }
+    final var added = Arrays.copyOf(this.handles, this.handles.length + handles.size());
+    var index = this.handles.length;
+    for (final var handle : handles) {
+      added[index++] = handle;
+    }
+    return new DispatchTable<>(added);
+  }
+
+  /**
+   * collects the handles that accept the given event class, in the order they were added.
+   *
+   * @param type the event class to compile.
+   *
+   * @return the handles to run.
+   */
+  @NotNull
+  private Handle<?>[] compile(@NotNull final Class<?> type) {
+    return Arrays.stream(this.handles)
+      .filter(handle -> handle.type().isAssignableFrom(type))
+      .toArray(Handle<?>[]::new);
+  }
+
+  /**
+   * obtains the handles that accept the given event class, and compiles them on the first call.
+   *
+   * @param type the event class to obtain.
+   *
+   * @return the handles to run.
+   */
+  @NotNull
+  private Handle<?>[] targets(@NotNull final Class<?> type) {
+    var targets = this.compiled.get(type);
+    if (targets == null) {
+      targets = this.compile(type);
+      this.compiled.put(type, targets);
+    }
+    return targets;
+  }
+}
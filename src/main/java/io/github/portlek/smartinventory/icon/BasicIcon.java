@@ -29,7 +29,7 @@ import io.github.portlek.smartinventory.Handle;
 import io.github.portlek.smartinventory.Icon;
 import io.github.portlek.smartinventory.InventoryContents;
 import io.github.portlek.smartinventory.event.abs.IconEvent;
-import java.util.ArrayList;
+import io.github.portlek.smartinventory.handle.DispatchTable;
 import java.util.Collection;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
@@ -43,11 +43,6 @@ import org.jetbrains.annotations.NotNull;
 @RequiredArgsConstructor
 public final class BasicIcon implements Icon {
 
-  /**
-   * the handle list.
-   */
-  private final Collection<Handle<? extends IconEvent>> handles = new ArrayList<>();
-
   /**
    * the can see.
    */
@@ -66,6 +61,12 @@ public final class BasicIcon implements Icon {
   @NotNull
   private ItemStack fallback = new ItemStack(Material.AIR);
 
+  /**
+   * the handles.
+   */
+  @NotNull
+  private volatile DispatchTable<IconEvent> handles = DispatchTable.empty();
+
   /**
    * the item.
    */
@@ -76,10 +77,7 @@ public final class BasicIcon implements Icon {
   public <T extends IconEvent> void accept(@NotNull final T event) {
     final var contents = event.contents();
     if (this.canSee.test(contents) && this.canUse.test(contents)) {
-      this.handles.stream()
-        .filter(target -> target.type().isAssignableFrom(event.getClass()))
-        .map(target -> (Handle<T>) target)
-        .forEach(target -> target.accept(event));
+      this.handles.accept(event);
     }
   }
 
@@ -109,6 +107,17 @@ public final class BasicIcon implements Icon {
     return this;
   }
 
+  @NotNull
+  @Override
+  public Icon copy() {
+    final var copy = new BasicIcon(this.item);
+    copy.canSee = this.canSee;
+    copy.canUse = this.canUse;
+    copy.fallback = this.fallback;
+    copy.handles = this.handles;
+    return copy;
+  }
+
   @NotNull
   @Override
   public Icon fallback(@NotNull final ItemStack fallback) {
@@ -125,14 +134,14 @@ public final class BasicIcon implements Icon {
   @NotNull
   @Override
   public <T extends IconEvent> Icon handle(@NotNull final Handle<T> handle) {
-    this.handles.add(handle);
+    this.handles = this.handles.with(handle);
     return this;
   }
 
   @NotNull
   @Override
   public Icon handles(@NotNull final Collection<Handle<? extends IconEvent>> handles) {
-    this.handles.addAll(handles);
+    this.handles = this.handles.withAll(handles);
     return this;
   }
 
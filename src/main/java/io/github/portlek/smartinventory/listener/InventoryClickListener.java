@@ -26,17 +26,21 @@
 package io.github.portlek.smartinventory.listener;
 
 import io.github.portlek.smartinventory.SmartHolder;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
 import io.github.portlek.smartinventory.event.IcClickEvent;
 import io.github.portlek.smartinventory.event.PgBottomClickEvent;
 import io.github.portlek.smartinventory.event.PgClickEvent;
 import io.github.portlek.smartinventory.event.PgOutsideClickEvent;
-import io.github.portlek.smartinventory.util.SlotPos;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.metrics.jfr.ClickDispatchEvent;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryAction;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * a class that represents inventory click listeners.
@@ -55,6 +59,39 @@ public final class InventoryClickListener implements Listener {
       return;
     }
     final var smartHolder = (SmartHolder) holder;
+    final var metrics = smartHolder.getPage().inventory().metrics();
+    final var start = metrics.start();
+    final var recorded = new ClickDispatchEvent();
+    recorded.begin();
+    try {
+      InventoryClickListener.handle(event, smartHolder);
+    } finally {
+      InventoryClickListener.forget(smartHolder);
+      metrics.record(smartHolder.getPage().id(), Operation.CLICK, start);
+      recorded.finish(smartHolder.getPage().id(), event.getWhoClicked().getUniqueId(), 1);
+    }
+  }
+
+  /**
+   * forgets the pushed items of the given holder, since the click and its handlers can change any slot of the
+   * inventory without the renderer, e.g. by a shift-click or a hotbar swap.
+   *
+   * @param smartHolder the holder to forget.
+   */
+  static void forget(@NotNull final SmartHolder smartHolder) {
+    final var contents = smartHolder.getContents();
+    if (contents instanceof BasicInventoryContents) {
+      ((BasicInventoryContents) contents).renderer().reset();
+    }
+  }
+
+  /**
+   * handles the click event of the given holder.
+   *
+   * @param event the event to handle.
+   * @param smartHolder the holder of the clicked inventory.
+   */
+  private static void handle(@NotNull final InventoryClickEvent event, @NotNull final SmartHolder smartHolder) {
     if (event.getAction() == InventoryAction.COLLECT_TO_CURSOR) {
       event.setCancelled(true);
       return;
@@ -78,18 +115,22 @@ public final class InventoryClickListener implements Listener {
       return;
     }
     final var slot = event.getSlot();
-    final var row = slot / 9;
-    final var column = slot % 9;
+    final var row = slot / page.column();
+    final var column = slot % page.column();
     if (!page.checkBounds(row, column)) {
       return;
     }
-    final var slotPos = SlotPos.of(row, column);
-    if (!contents.isEditable(slotPos)) {
+    if (!contents.isEditable(row, column)) {
       event.setCancelled(true);
     }
-    contents.get(slotPos).ifPresent(item ->
-      item.accept(new IcClickEvent(contents, event, item, plugin)));
-    if (!contents.isEditable(slotPos) && player instanceof Player) {
+    final var icon = contents.getIcon(row, column);
+    if (icon != null) {
+      final var watchdog = page.inventory().watchdog();
+      final var start = watchdog.start();
+      icon.accept(new IcClickEvent(contents, event, icon, plugin));
+      watchdog.check(start, WatchPoint.ICON_ACCEPT, page.id(), row, column, InventoryClickEvent.class);
+    }
+    if (!contents.isEditable(row, column) && player instanceof Player) {
       ((Player) player).updateInventory();
     }
   }
@@ -26,7 +26,9 @@
 package io.github.portlek.smartinventory.listener;
 
 import io.github.portlek.smartinventory.SmartHolder;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
 import io.github.portlek.smartinventory.event.PgCloseEvent;
+import io.github.portlek.smartinventory.metrics.jfr.PageCloseEvent;
 import java.util.UUID;
 import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
@@ -60,16 +62,33 @@ public final class InventoryCloseListener implements Listener {
       return;
     }
     final var smartHolder = (SmartHolder) holder;
+    final var recorded = new PageCloseEvent();
+    recorded.begin();
     final var inventory = event.getInventory();
     final var page = smartHolder.getPage();
-    final var close = new PgCloseEvent(smartHolder.getContents(), event);
+    final var contents = smartHolder.getContents();
+    final var close = new PgCloseEvent(contents, event);
+    final var basic = contents instanceof BasicInventoryContents ? (BasicInventoryContents) contents : null;
+    if (basic != null) {
+      basic.setViewed(false);
+    }
     page.accept(close);
     if (!page.canClose(close)) {
-      Bukkit.getScheduler().runTask(smartHolder.getPlugin(), () ->
-        event.getPlayer().openInventory(inventory));
+      Bukkit.getScheduler().runTask(smartHolder.getPlugin(), () -> {
+        event.getPlayer().openInventory(inventory);
+        if (basic != null) {
+          basic.setViewed(true);
+        }
+      });
       return;
     }
     inventory.clear();
+    if (basic != null) {
+      basic.renderer().reset();
+    }
+    contents.pagination().dispose();
     this.stopTickFunction.accept(event.getPlayer().getUniqueId());
+    page.inventory().getSessions().close(smartHolder);
+    recorded.finish(page.id(), event.getPlayer().getUniqueId(), page.row() * page.column());
   }
 }
@@ -27,11 +27,13 @@ package io.github.portlek.smartinventory.listener;
 
 import io.github.portlek.smartinventory.SmartHolder;
 import io.github.portlek.smartinventory.event.IcDragEvent;
-import io.github.portlek.smartinventory.util.SlotPos;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * a class that represents inventory drag listeners.
@@ -50,13 +52,38 @@ public final class InventoryDragListener implements Listener {
       return;
     }
     final var smartHolder = (SmartHolder) holder;
+    final var metrics = smartHolder.getPage().inventory().metrics();
+    final var start = metrics.start();
+    try {
+      InventoryDragListener.handle(event, smartHolder);
+    } finally {
+      InventoryClickListener.forget(smartHolder);
+      metrics.record(smartHolder.getPage().id(), Operation.DRAG, start);
+    }
+  }
+
+  /**
+   * handles the drag event of the given holder.
+   *
+   * @param event the event to handle.
+   * @param smartHolder the holder of the dragged inventory.
+   */
+  private static void handle(@NotNull final InventoryDragEvent event, @NotNull final SmartHolder smartHolder) {
     final var inventory = event.getInventory();
     final var contents = smartHolder.getContents();
+    final var page = smartHolder.getPage();
+    final var watchdog = page.inventory().watchdog();
+    final var columns = page.column();
     for (final var slot : event.getRawSlots()) {
-      final var pos = SlotPos.of(slot / 9, slot % 9);
-      contents.get(pos).ifPresent(icon ->
-        icon.accept(new IcDragEvent(contents, event, icon, smartHolder.getPlugin())));
-      if (slot >= inventory.getSize() || contents.isEditable(pos)) {
+      final var row = slot / columns;
+      final var column = slot % columns;
+      final var icon = contents.getIcon(row, column);
+      if (icon != null) {
+        final var start = watchdog.start();
+        icon.accept(new IcDragEvent(contents, event, icon, smartHolder.getPlugin()));
+        watchdog.check(start, WatchPoint.ICON_ACCEPT, page.id(), row, column, InventoryDragEvent.class);
+      }
+      if (slot >= inventory.getSize() || contents.isEditable(row, column)) {
         continue;
       }
       event.setCancelled(true);
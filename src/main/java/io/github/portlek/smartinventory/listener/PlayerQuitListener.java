@@ -57,6 +57,8 @@ public final class PlayerQuitListener implements Listener {
     SmartInventory.getHolder(event.getPlayer()).ifPresent(holder -> {
       holder.getPage().accept(new PlyrQuitEvent(holder.getContents(), event));
       this.stopTickFunction.accept(event.getPlayer().getUniqueId());
+      holder.getContents().pagination().dispose();
+      holder.getPage().inventory().getSessions().close(holder);
     });
   }
 }
@@ -27,6 +27,7 @@ package io.github.portlek.smartinventory.listener;
 
 import io.github.portlek.smartinventory.SmartInventory;
 import io.github.portlek.smartinventory.event.PlgnDisableEvent;
+import io.github.portlek.smartinventory.session.SessionRegistry;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.server.PluginDisableEvent;
@@ -48,5 +49,6 @@ public final class PluginDisableListener implements Listener {
       page.accept(new PlgnDisableEvent(holder.getContents(), event));
       page.close(holder.getPlayer());
     });
+    SessionRegistry.deactivate(event.getPlugin());
   }
 }
@@ -27,13 +27,18 @@ package io.github.portlek.smartinventory.manager;
 
 import io.github.portlek.smartinventory.InventoryOpener;
 import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.metrics.InventoryMetrics;
+import io.github.portlek.smartinventory.scheduler.TickScheduler;
+import io.github.portlek.smartinventory.scheduler.UpdateCoalescer;
+import io.github.portlek.smartinventory.session.SessionRegistry;
+import io.github.portlek.smartinventory.watchdog.Watchdog;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.NotNull;
@@ -42,9 +47,13 @@ import org.jetbrains.annotations.NotNull;
  * an implementation for {@link SmartInventory}.
  */
 @Getter
-@RequiredArgsConstructor
 public final class BasicSmartInventory implements SmartInventory {
 
+  /**
+   * the metrics.
+   */
+  private final InventoryMetrics metrics = new InventoryMetrics();
+
   /**
    * the openers.
    */
@@ -56,11 +65,39 @@ public final class BasicSmartInventory implements SmartInventory {
   @NotNull
   private final Plugin plugin;
 
+  /**
+   * the tick scheduler.
+   */
+  @NotNull
+  private final TickScheduler scheduler;
+
+  /**
+   * the session registry.
+   */
+  private final SessionRegistry sessions = new SessionRegistry();
+
   /**
    * the tasks.
    */
   private final Map<UUID, BukkitRunnable> tasks = new ConcurrentHashMap<>();
 
+  /**
+   * the update coalescer.
+   */
+  @NotNull
+  private final UpdateCoalescer updates;
+
+  /**
+   * the watchdog.
+   */
+  private final Watchdog watchdog = new Watchdog();
+
+  /**
+   * the legacy ticking.
+   */
+  @Setter
+  private boolean legacyTicking;
+
   static {
     try {
       Class.forName("io.github.portlek.smartinventory.event.PlgnDisableEvent");
@@ -68,4 +105,33 @@ public final class BasicSmartInventory implements SmartInventory {
       e.printStackTrace();
     }
   }
+
+  /**
+   * ctor.
+   *
+   * @param plugin the plugin.
+   */
+  public BasicSmartInventory(@NotNull final Plugin plugin) {
+    this.plugin = plugin;
+    this.scheduler = new TickScheduler(plugin);
+    this.updates = new UpdateCoalescer(plugin);
+  }
+
+  @NotNull
+  @Override
+  public InventoryMetrics metrics() {
+    return this.metrics;
+  }
+
+  @NotNull
+  @Override
+  public UpdateCoalescer updates() {
+    return this.updates;
+  }
+
+  @NotNull
+  @Override
+  public Watchdog watchdog() {
+    return this.watchdog;
+  }
 }
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.metrics;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * an immutable snapshot of a {@link LatencyHistogram}, the values are in nanoseconds.
+ */
+public final class HistogramSnapshot {
+
+  /**
+   * the buckets.
+   */
+  @NotNull
+  private final long[] buckets;
+
+  /**
+   * the value count.
+   */
+  @Getter
+  private final long count;
+
+  /**
+   * the max value.
+   */
+  @Getter
+  private final long max;
+
+  /**
+   * the value total.
+   */
+  @Getter
+  private final long total;
+
+  /**
+   * ctor.
+   *
+   * @param buckets the buckets.
+   * @param count the value count.
+   * @param max the max value.
+   * @param total the value total.
+   */
+  public HistogramSnapshot(@NotNull final long[] buckets, final long count, final long max, final long total) {
+    this.buckets = buckets.clone();
+    this.count = count;
+    this.max = max;
+    this.total = total;
+  }
+
+  /**
+   * obtains the value count of the given bucket.
+   *
+   * @param bucket the bucket to obtain.
+   *
+   * @return the value count.
+   *
+   * @see LatencyHistogram#bucket(long)
+   */
+  public long getBucket(final int bucket) {
+    return this.buckets[bucket];
+  }
+
+  /**
+   * obtains the mean value.
+   *
+   * @return the mean value, or {@code 0} if there is no value.
+   */
+  public double mean() {
+    return this.count == 0L ? 0.0d : (double) this.total / this.count;
+  }
+
+  /**
+   * obtains the given percentile.
+   * <p>
+   * the result is the upper bound of the bucket that contains the percentile, capped by the max value, so it is at most
+   * twice the exact value.
+   *
+   * @param percentile the percentile to obtain, between {@code 0} and {@code 1}.
+   *
+   * @return the percentile, or {@code 0} if there is no value.
+   */
+  public long percentile(final double percentile) {
+    var bucketTotal = 0L;
+    for (final var bucket : this.buckets) {
+      bucketTotal += bucket;
+    }
+    if (bucketTotal == 0L) {
+      return 0L;
+    }
+    final var rank = Math.max(1L, (long) Math.ceil(percentile * bucketTotal));
+    var seen = 0L;
+    for (var index = 0; index < this.buckets.length; index++) {
+      seen += this.buckets[index];
+      if (seen >= rank) {
+        final var upper = index >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << index) - 1L;
+        return Math.min(upper, this.max);
+      }
+    }
+    return this.max;
+  }
+}
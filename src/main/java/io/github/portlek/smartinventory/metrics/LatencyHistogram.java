@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a lock-free latency histogram with power of two buckets.
+ * <p>
+ * the bucket {@code i} counts the values whose bit length is {@code i}, so the values between {@code 2^(i-1)} and
+ * {@code 2^i - 1}. the recording is a few atomic increments and never allocates.
+ */
+public final class LatencyHistogram {
+
+  /**
+   * the bucket count.
+   */
+  public static final int BUCKETS = 64;
+
+  /**
+   * the buckets.
+   */
+  private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+
+  /**
+   * the value count.
+   */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * the max value.
+   */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * the value total.
+   */
+  private final LongAdder total = new LongAdder();
+
+  /**
+   * obtains the bucket of the given value.
+   *
+   * @param value the value to obtain.
+   *
+   * @return the bucket index.
+   */
+  public static int bucket(final long value) {
+    return Long.SIZE - Long.numberOfLeadingZeros(Math.max(0L, value));
+  }
+
+  /**
+   * records the given value.
+   *
+   * @param value the value to record, the negative values are recorded as {@code 0}.
+   */
+  public void record(final long value) {
+    final var positive = Math.max(0L, value);
+    this.buckets.incrementAndGet(LatencyHistogram.bucket(positive));
+    this.count.increment();
+    this.total.add(positive);
+    this.max.accumulate(positive);
+  }
+
+  /**
+   * resets the histogram.
+   * <p>
+   * the values that are recorded during the reset may be partially kept.
+   */
+  public void reset() {
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      this.buckets.set(index, 0L);
+    }
+    this.count.reset();
+    this.total.reset();
+    this.max.reset();
+  }
+
+  /**
+   * takes a snapshot of the histogram.
+   *
+   * @return a new snapshot.
+   */
+  @NotNull
+  public HistogramSnapshot snapshot() {
+    final var copy = new long[LatencyHistogram.BUCKETS];
+    for (var index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      copy[index] = this.buckets.get(index);
+    }
+    return new HistogramSnapshot(copy, this.count.sum(), this.max.get(), this.total.sum());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.metrics.jfr;
+
+import java.util.UUID;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a base Java Flight Recorder event of the library, the duration is the time between {@link #begin()} and
+ * {@link #finish(String, UUID, int)}.
+ * <p>
+ * the events are disabled until a recording enables them, then {@link #begin()} and the {@link #shouldCommit()} check
+ * in {@link #finish(String, UUID, int)} are the only costs of the events that are not committed.
+ */
+@Category("SmartInventory")
+@StackTrace(false)
+public abstract class SmartInventoryEvent extends Event {
+
+  /**
+   * the page id.
+   */
+  @Label("Page Id")
+  String page;
+
+  /**
+   * the unique id of the player.
+   */
+  @Label("Player")
+  String player;
+
+  /**
+   * the slot count.
+   */
+  @Label("Slots")
+  int slots;
+
+  /**
+   * ends the event and commits it, if the recording wants it.
+   *
+   * @param page the page id.
+   * @param player the unique id of the player.
+   * @param slots the slot count.
+   */
+  public final void finish(@NotNull final String page, @NotNull final UUID player, final int slots) {
+    this.end();
+    if (!this.shouldCommit()) {
+      return;
+    }
+    this.page = page;
+    this.player = player.toString();
+    this.slots = slots;
+    this.commit();
+  }
+}
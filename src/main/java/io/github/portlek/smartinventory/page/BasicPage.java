@@ -25,23 +25,31 @@
 
 package io.github.portlek.smartinventory.page;
 
+import com.google.common.base.Preconditions;
 import io.github.portlek.observer.Source;
-import io.github.portlek.observer.source.BasicSource;
+import io.github.portlek.observer.source.CopyOnWriteSource;
 import io.github.portlek.smartinventory.Handle;
 import io.github.portlek.smartinventory.InventoryContents;
 import io.github.portlek.smartinventory.InventoryProvider;
 import io.github.portlek.smartinventory.Page;
 import io.github.portlek.smartinventory.SmartInventory;
 import io.github.portlek.smartinventory.content.BasicInventoryContents;
+import io.github.portlek.smartinventory.content.SlotPlan;
+import io.github.portlek.smartinventory.content.SlotPlanKey;
 import io.github.portlek.smartinventory.event.PgCloseEvent;
 import io.github.portlek.smartinventory.event.PgInitEvent;
 import io.github.portlek.smartinventory.event.PgUpdateEvent;
 import io.github.portlek.smartinventory.event.abs.CloseEvent;
 import io.github.portlek.smartinventory.event.abs.PageEvent;
-import java.util.ArrayList;
-import java.util.Collection;
+import io.github.portlek.smartinventory.handle.DispatchTable;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.metrics.jfr.PageOpenEvent;
+import io.github.portlek.smartinventory.template.PageTemplate;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.entity.Player;
@@ -58,9 +66,9 @@ import org.jetbrains.annotations.Nullable;
 public final class BasicPage implements Page {
 
   /**
-   * the handles.
+   * the maximum count of the cached traversal plans, the cache is cleared when it is reached.
    */
-  private final Collection<Handle<? extends PageEvent>> handles = new ArrayList<>();
+  private static final int MAX_PLANS = 64;
 
   /**
    * the inventory manager.
@@ -68,10 +76,20 @@ public final class BasicPage implements Page {
   @NotNull
   private final SmartInventory inventory;
 
+  /**
+   * the traversal plan lookup count.
+   */
+  private final LongAdder planLookups = new LongAdder();
+
+  /**
+   * the cached traversal plans.
+   */
+  private final Map<SlotPlanKey, SlotPlan> plans = new ConcurrentHashMap<>();
+
   /**
    * the observer's source.
    */
-  private final Source<InventoryContents> source = new BasicSource<>();
+  private final Source<InventoryContents> source = new CopyOnWriteSource<>();
 
   /**
    * the inventory type.
@@ -97,12 +115,23 @@ public final class BasicPage implements Page {
    */
   private int column = 9;
 
+  /**
+   * the handles.
+   */
+  @NotNull
+  private volatile DispatchTable<PageEvent> handles = DispatchTable.empty();
+
   /**
    * the id.
    */
   @NotNull
   private String id = "none";
 
+  /**
+   * the paginate in place.
+   */
+  private boolean paginateInPlace = false;
+
   /**
    * the parent.
    */
@@ -125,6 +154,12 @@ public final class BasicPage implements Page {
    */
   private long startDelay = 1L;
 
+  /**
+   * the template.
+   */
+  @Nullable
+  private PageTemplate template;
+
   /**
    * the tick time.
    */
@@ -152,10 +187,7 @@ public final class BasicPage implements Page {
 
   @Override
   public <T extends PageEvent> void accept(@NotNull final T event) {
-    this.handles.stream()
-      .filter(handle -> handle.type().isAssignableFrom(event.getClass()))
-      .map(handle -> (Handle<T>) handle)
-      .forEach(handle -> handle.accept(event));
+    this.handles.accept(event, this.inventory.watchdog(), WatchPoint.PAGE_ACCEPT, this.id, -1, -1);
   }
 
   @Override
@@ -187,6 +219,8 @@ public final class BasicPage implements Page {
     SmartInventory.getHolder(player).ifPresent(holder -> {
       this.accept(new PgCloseEvent(holder.getContents(), new InventoryCloseEvent(player.getOpenInventory())));
       this.inventory().stopTick(player.getUniqueId());
+      holder.getContents().pagination().dispose();
+      holder.getPage().inventory().getSessions().close(holder);
       this.source.unsubscribe(this.provider());
       holder.setActive(false);
       player.closeInventory();
@@ -205,10 +239,21 @@ public final class BasicPage implements Page {
     return this;
   }
 
+  /**
+   * obtains the count of the traversal plan lookups.
+   * <p>
+   * a slot iterator looks its plan up only when its blacklist, its patterns or the page size change.
+   *
+   * @return the traversal plan lookup count.
+   */
+  public long getPlanLookups() {
+    return this.planLookups.sum();
+  }
+
   @NotNull
   @Override
   public <T extends PageEvent> Page handle(@NotNull final Handle<T> handle) {
-    this.handles.add(handle);
+    this.handles = this.handles.with(handle);
     return this;
   }
 
@@ -231,16 +276,14 @@ public final class BasicPage implements Page {
     return this.inventory;
   }
 
-  @Override
-  public void notifyUpdate(@NotNull final InventoryContents contents) {
-    this.accept(new PgUpdateEvent(contents));
-    this.source.notifyTargets(contents);
-  }
-
   @NotNull
   @Override
   public Inventory open(@NotNull final Player player, final int page, @NotNull final Map<String, Object> properties,
                         final boolean close) {
+    final var metrics = this.inventory().metrics();
+    final var start = metrics.start();
+    final var recorded = new PageOpenEvent();
+    recorded.begin();
     if (close) {
       this.close(player);
     }
@@ -251,14 +294,37 @@ public final class BasicPage implements Page {
     contents.pagination().page(page);
     properties.forEach(contents::setProperty);
     this.accept(new PgInitEvent(contents));
+    final var watchdog = this.inventory.watchdog();
+    final var watched = watchdog.start();
     this.provider().init(contents);
+    watchdog.check(watched, WatchPoint.PROVIDER_INIT, this.id, -1, -1, null);
     final var opened = opener.open(contents);
+    SmartInventory.getHolder(player)
+      .filter(holder -> holder.getContents() == contents)
+      .ifPresent(holder -> {
+        contents.setViewed(true);
+        this.inventory().getSessions().open(holder);
+      });
     if (this.tickEnable()) {
       this.inventory().tick(player.getUniqueId(), this);
     }
+    metrics.record(this.id, Operation.OPEN, start);
+    recorded.finish(this.id, player.getUniqueId(), this.row * this.column);
     return opened;
   }
 
+  @Override
+  public boolean paginateInPlace() {
+    return this.paginateInPlace;
+  }
+
+  @NotNull
+  @Override
+  public Page paginateInPlace(final boolean paginateInPlace) {
+    this.paginateInPlace = paginateInPlace;
+    return this;
+  }
+
   @NotNull
   @Override
   public Optional<Page> parent() {
@@ -272,6 +338,28 @@ public final class BasicPage implements Page {
     return this;
   }
 
+  /**
+   * obtains the traversal plan of the given key from the page's cache, or creates and caches it.
+   * <p>
+   * the plans are shared by the slot iterators of all the sessions of the page.
+   *
+   * @param key the key to obtain.
+   *
+   * @return the traversal plan.
+   */
+  @NotNull
+  public SlotPlan plan(@NotNull final SlotPlanKey key) {
+    this.planLookups.increment();
+    final var plan = this.plans.get(key);
+    if (plan != null) {
+      return plan;
+    }
+    if (this.plans.size() >= BasicPage.MAX_PLANS) {
+      this.plans.clear();
+    }
+    return this.plans.computeIfAbsent(key, SlotPlan::new);
+  }
+
   @NotNull
   @Override
   public InventoryProvider provider() {
@@ -309,6 +397,21 @@ public final class BasicPage implements Page {
     return this;
   }
 
+  @NotNull
+  @Override
+  public Optional<PageTemplate> template() {
+    return Optional.ofNullable(this.template);
+  }
+
+  @NotNull
+  @Override
+  public Page template(@Nullable final PageTemplate template) {
+    Preconditions.checkArgument(template == null || template.fits(this),
+      "The template does not have the size of the page.");
+    this.template = template;
+    return this;
+  }
+
   @Override
   public long tick() {
     return this.tick;
@@ -345,4 +448,13 @@ public final class BasicPage implements Page {
     this.title = title;
     return this;
   }
+
+  @Override
+  public void update(@NotNull final InventoryContents contents) {
+    this.accept(new PgUpdateEvent(contents));
+    final var watchdog = this.inventory.watchdog();
+    final var start = watchdog.start();
+    this.source.notifyTargets(contents);
+    watchdog.check(start, WatchPoint.PROVIDER_UPDATE, this.id, -1, -1, null);
+  }
 }
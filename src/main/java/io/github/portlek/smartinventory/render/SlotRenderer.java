@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.render;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.LongAdder;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that sits between the contents and the Bukkit {@link Inventory} and pushes only the slots that changed.
+ * <p>
+ * the renderer keeps a copy of the last pushed item of each slot and compares the new item with it by
+ * {@link ItemStack#isSimilar(ItemStack)} and amount.
+ * the copy is taken on push, so the items that are mutated in place after they were pushed are still detected, and
+ * it is never the same instance as a new item, so there is no identity check.
+ * <p>
+ * the copy is only right while the renderer is the only writer, so the click and drag listeners call {@link #reset()}
+ * after each event, since the player and the handlers can change the inventory directly.
+ */
+public final class SlotRenderer {
+
+  /**
+   * the slots whose last pushed item is known.
+   */
+  private final BitSet known = new BitSet();
+
+  /**
+   * the skipped slot count.
+   */
+  private final LongAdder skipped = new LongAdder();
+
+  /**
+   * the written slot count.
+   */
+  private final LongAdder written = new LongAdder();
+
+  /**
+   * the last pushed items.
+   */
+  @NotNull
+  private ItemStack[] pushed = new ItemStack[0];
+
+  /**
+   * checks if the given items look the same to the client.
+   *
+   * @param previous the previous item.
+   * @param item the item to check.
+   *
+   * @return {@code true} if the items are the same.
+   */
+  private static boolean same(@Nullable final ItemStack previous, @Nullable final ItemStack item) {
+    if (previous == null || item == null) {
+      return previous == item;
+    }
+    return previous.getAmount() == item.getAmount() &&
+      previous.isSimilar(item);
+  }
+
+  /**
+   * obtains the count of the slots that were skipped because nothing changed.
+   *
+   * @return skipped slot count.
+   */
+  public long getSkipped() {
+    return this.skipped.sum();
+  }
+
+  /**
+   * obtains the count of the slots that were written to the inventory.
+   *
+   * @return written slot count.
+   */
+  public long getWritten() {
+    return this.written.sum();
+  }
+
+  /**
+   * pushes the given item to the given slot of the inventory, if it differs from the last pushed item.
+   *
+   * @param inventory the inventory to push.
+   * @param slot the slot to push.
+   * @param item the item to push.
+   * @param force {@code true} to write without diffing, e.g. for the editable slots that the player can change.
+   *
+   * @return {@code true} if the slot was written.
+   */
+  public synchronized boolean render(@NotNull final Inventory inventory, final int slot, @Nullable final ItemStack item,
+                                     final boolean force) {
+    if (slot >= this.pushed.length) {
+      this.pushed = Arrays.copyOf(this.pushed, Math.max(slot + 1, inventory.getSize()));
+    }
+    if (!force && this.known.get(slot) && SlotRenderer.same(this.pushed[slot], item)) {
+      this.skipped.increment();
+      return false;
+    }
+    inventory.setItem(slot, item);
+    if (force) {
+      this.known.clear(slot);
+      this.pushed[slot] = null;
+    } else {
+      this.known.set(slot);
+      this.pushed[slot] = item == null ? null : item.clone();
+    }
+    this.written.increment();
+    return true;
+  }
+
+  /**
+   * forgets the pushed items, so the next render of each slot is written.
+   * <p>
+   * call this when the inventory was changed without the renderer, e.g. when it was cleared.
+   */
+  public synchronized void reset() {
+    this.known.clear();
+    Arrays.fill(this.pushed, null);
+  }
+
+  /**
+   * resets the written and skipped counters.
+   */
+  public void resetCounters() {
+    this.skipped.reset();
+    this.written.reset();
+  }
+}
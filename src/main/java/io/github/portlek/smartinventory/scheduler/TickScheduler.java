@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.scheduler;
+
+import com.google.common.base.Preconditions;
+import io.github.portlek.smartinventory.SmartHolder;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that ticks all the open pages of a {@link io.github.portlek.smartinventory.SmartInventory}
+ * with one sync and one async {@link TickWheel} instead of a scheduler task per viewer.
+ * <p>
+ * with {@link #setBudget(long)} and {@link #setSpread(boolean)}, {@link io.github.portlek.smartinventory.Page#tick()}
+ * becomes a target rate: the sessions of the same period are staggered across its ticks and the work that does not
+ * fit into a server tick is carried over to the next one.
+ */
+public final class TickScheduler {
+
+  /**
+   * the async wheel.
+   */
+  @NotNull
+  private final TickWheel async;
+
+  /**
+   * the sessions by player unique id.
+   */
+  private final Map<UUID, TickSession> sessions = new ConcurrentHashMap<>();
+
+  /**
+   * the sync wheel.
+   */
+  @NotNull
+  private final TickWheel sync;
+
+  /**
+   * ctor.
+   *
+   * @param plugin the plugin.
+   */
+  public TickScheduler(@NotNull final Plugin plugin) {
+    this.async = new TickWheel(true, plugin);
+    this.sync = new TickWheel(false, plugin);
+  }
+
+  /**
+   * cancels the ticking of the given unique id.
+   *
+   * @param uniqueId the unique id to cancel.
+   */
+  public void cancel(@NotNull final UUID uniqueId) {
+    final var session = this.sessions.remove(uniqueId);
+    if (session != null) {
+      session.cancel();
+    }
+  }
+
+  /**
+   * obtains the time budget of a driver tick.
+   *
+   * @return time budget in milliseconds, {@code 0} means unlimited.
+   */
+  public long getBudget() {
+    return TimeUnit.NANOSECONDS.toMillis(this.sync.getBudget());
+  }
+
+  /**
+   * obtains the count of the tick dispatches that were carried over because the budget ran out.
+   *
+   * @return deferred dispatch count.
+   */
+  public long getDeferred() {
+    return this.sync.getDeferred() + this.async.getDeferred();
+  }
+
+  /**
+   * obtains the count of the tick dispatches.
+   *
+   * @return dispatch count.
+   */
+  public long getDispatched() {
+    return this.sync.getDispatched() + this.async.getDispatched();
+  }
+
+  /**
+   * checks if the sessions of the same period are staggered across the ticks of the period.
+   *
+   * @return {@code true} if the spreading is enabled.
+   */
+  public boolean isSpread() {
+    return this.sync.isSpread();
+  }
+
+  /**
+   * checks if the given unique id is ticking.
+   *
+   * @param uniqueId the unique id to check.
+   *
+   * @return {@code true} if the unique id has a ticking session.
+   */
+  public boolean isTicking(@NotNull final UUID uniqueId) {
+    return this.sessions.containsKey(uniqueId);
+  }
+
+  /**
+   * resets the deferred and dispatch counters.
+   */
+  public void resetCounters() {
+    this.sync.resetCounters();
+    this.async.resetCounters();
+  }
+
+  /**
+   * starts the ticking of the given holder with its page's start delay, period and async status.
+   * <p>
+   * the previous session of the player is cancelled, if there is one.
+   *
+   * @param holder the holder to schedule.
+   */
+  public void schedule(@NotNull final SmartHolder holder) {
+    final var page = holder.getPage();
+    final var session = new TickSession(page.startDelay(), holder, page.tick());
+    final var previous = this.sessions.put(holder.getPlayer().getUniqueId(), session);
+    if (previous != null) {
+      previous.cancel();
+    }
+    if (page.async()) {
+      this.async.add(session);
+    } else {
+      this.sync.add(session);
+    }
+  }
+
+  /**
+   * sets the time budget that each driver may spend on the page ticks of a server tick.
+   * <p>
+   * at least one due session runs per server tick, the rest is carried over once the budget runs out.
+   *
+   * @param budget the budget in milliseconds, {@code 0} for unlimited.
+   */
+  public void setBudget(final long budget) {
+    Preconditions.checkArgument(budget >= 0L, "The budget cannot be negative.");
+    final var nanos = TimeUnit.MILLISECONDS.toNanos(budget);
+    this.sync.setBudget(nanos);
+    this.async.setBudget(nanos);
+  }
+
+  /**
+   * sets the spreading of the sessions that are scheduled after the call.
+   *
+   * @param spread {@code true} to stagger the sessions of the same period across the ticks of the period.
+   */
+  public void setSpread(final boolean spread) {
+    this.sync.setSpread(spread);
+    this.async.setSpread(spread);
+  }
+
+  /**
+   * obtains the count of the ticking sessions.
+   *
+   * @return ticking session count.
+   */
+  public int size() {
+    return this.sessions.size();
+  }
+}
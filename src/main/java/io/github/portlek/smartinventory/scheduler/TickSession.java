@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.scheduler;
+
+import io.github.portlek.smartinventory.SmartHolder;
+import io.github.portlek.smartinventory.event.PgTickEvent;
+import io.github.portlek.smartinventory.metrics.Operation;
+import io.github.portlek.smartinventory.metrics.jfr.TickDispatchEvent;
+import io.github.portlek.smartinventory.watchdog.WatchPoint;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that represents a ticking session of a {@link SmartHolder} inside a {@link TickWheel}.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class TickSession {
+
+  /**
+   * the start delay.
+   */
+  private final long delay;
+
+  /**
+   * the holder.
+   */
+  @NotNull
+  private final SmartHolder holder;
+
+  /**
+   * the period.
+   */
+  private final long period;
+
+  /**
+   * the cancelled.
+   */
+  private volatile boolean cancelled;
+
+  /**
+   * the next tick that the session is due on.
+   * <p>
+   * only accessed by the driver of the wheel.
+   */
+  @Setter
+  private long due;
+
+  /**
+   * cancels the session.
+   * <p>
+   * the wheel drops the session on the next visit of its bucket.
+   */
+  public void cancel() {
+    this.cancelled = true;
+  }
+
+  /**
+   * dispatches {@link PgTickEvent} and the provider's tick method, if the holder is still active and viewed.
+   */
+  public void run() {
+    final var contents = this.holder.getContents();
+    if (!this.holder.isActive() || !contents.isViewed()) {
+      return;
+    }
+    final var page = this.holder.getPage();
+    final var metrics = page.inventory().metrics();
+    final var start = metrics.start();
+    final var recorded = new TickDispatchEvent();
+    recorded.begin();
+    page.accept(new PgTickEvent(contents));
+    final var watchdog = page.inventory().watchdog();
+    final var watched = watchdog.start();
+    page.provider().tick(contents);
+    watchdog.check(watched, WatchPoint.PROVIDER_TICK, page.id(), -1, -1, null);
+    metrics.record(page.id(), Operation.TICK, start);
+    recorded.finish(page.id(), this.holder.getPlayer().getUniqueId(), page.row() * page.column());
+  }
+}
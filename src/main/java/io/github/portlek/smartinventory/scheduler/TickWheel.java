@@ -0,0 +1,361 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a hashed timing wheel that drives many {@link TickSession}s from a single repeating task.
+ * <p>
+ * each session sits in the bucket of the tick it is due on, so a driver tick only visits the sessions of one bucket.
+ * sessions whose period is longer than the wheel stay in their bucket until their due tick comes around.
+ * <p>
+ * when a budget is set, the due sessions that do not fit into the budget of a driver tick are carried over and
+ * dispatched first on the next driver tick. each driver tick dispatches at least one session, so a budget that is
+ * shorter than a single dispatch still makes progress.
+ */
+@RequiredArgsConstructor
+public final class TickWheel implements Runnable {
+
+  /**
+   * the bucket count of the wheel, must be a power of two.
+   */
+  private static final int SIZE = 512;
+
+  /**
+   * the mask to find the bucket of a tick.
+   */
+  private static final int MASK = TickWheel.SIZE - 1;
+
+  /**
+   * the async.
+   */
+  private final boolean async;
+
+  /**
+   * the buckets.
+   * <p>
+   * only accessed by the driver.
+   */
+  private final List<List<TickSession>> buckets = TickWheel.newBuckets();
+
+  /**
+   * the sessions that ran out of budget and are dispatched first on the next driver tick.
+   * <p>
+   * only accessed by the driver.
+   */
+  private final List<TickSession> carried = new ArrayList<>();
+
+  /**
+   * the deferred dispatch count.
+   */
+  private final LongAdder deferred = new LongAdder();
+
+  /**
+   * the dispatch count.
+   */
+  private final LongAdder dispatched = new LongAdder();
+
+  /**
+   * the sessions that wait to be placed into the buckets.
+   */
+  private final Queue<TickSession> pending = new ConcurrentLinkedQueue<>();
+
+  /**
+   * the plugin.
+   */
+  @NotNull
+  private final Plugin plugin;
+
+  /**
+   * the running guard, so overlapping async runs skip instead of racing on the buckets.
+   */
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  /**
+   * the time budget of a driver tick in nanoseconds, {@code 0} means unlimited.
+   */
+  @Getter
+  @Setter
+  private volatile long budget;
+
+  /**
+   * the current tick of the wheel.
+   * <p>
+   * only accessed by the driver.
+   */
+  private long current;
+
+  /**
+   * the placed session count, used to pick the phase of the spread sessions.
+   * <p>
+   * only accessed by the driver.
+   */
+  private long placed;
+
+  /**
+   * the spread.
+   * <p>
+   * if {@code true}, the sessions are staggered across the ticks of their period instead of starting together.
+   */
+  @Getter
+  @Setter
+  private volatile boolean spread;
+
+  /**
+   * the driver task.
+   */
+  @Nullable
+  private volatile BukkitTask task;
+
+  /**
+   * checks if the given deadline has passed.
+   *
+   * @param deadline the deadline to check, {@code 0} for no deadline.
+   *
+   * @return {@code true} if the deadline has passed.
+   */
+  private static boolean expired(final long deadline) {
+    return deadline != 0L && System.nanoTime() - deadline > 0L;
+  }
+
+  /**
+   * creates the empty buckets.
+   *
+   * @return empty buckets.
+   */
+  @NotNull
+  private static List<List<TickSession>> newBuckets() {
+    final var buckets = new ArrayList<List<TickSession>>(TickWheel.SIZE);
+    for (var index = 0; index < TickWheel.SIZE; index++) {
+      buckets.add(new ArrayList<>());
+    }
+    return buckets;
+  }
+
+  /**
+   * removes the session at the given index by moving the last session into its place.
+   *
+   * @param bucket the bucket to remove.
+   * @param index the index to remove.
+   */
+  private static void removeAt(@NotNull final List<TickSession> bucket, final int index) {
+    final var last = bucket.remove(bucket.size() - 1);
+    if (index < bucket.size()) {
+      bucket.set(index, last);
+    }
+  }
+
+  /**
+   * adds the given session to the wheel and starts the driver if it is not running yet.
+   *
+   * @param session the session to add.
+   */
+  public void add(@NotNull final TickSession session) {
+    this.pending.add(session);
+    if (this.task == null) {
+      this.start();
+    }
+  }
+
+  /**
+   * obtains the count of the dispatches that were carried over to a later driver tick.
+   *
+   * @return deferred dispatch count.
+   */
+  public long getDeferred() {
+    return this.deferred.sum();
+  }
+
+  /**
+   * obtains the count of the dispatched ticks.
+   *
+   * @return dispatch count.
+   */
+  public long getDispatched() {
+    return this.dispatched.sum();
+  }
+
+  /**
+   * resets the deferred and dispatch counters.
+   */
+  public void resetCounters() {
+    this.deferred.reset();
+    this.dispatched.reset();
+  }
+
+  @Override
+  public void run() {
+    if (!this.running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      final var budget = this.budget;
+      final var deadline = budget > 0L ? System.nanoTime() + budget : 0L;
+      this.drain();
+      this.advance(deadline, this.carry(deadline));
+      this.current++;
+    } finally {
+      this.running.set(false);
+    }
+  }
+
+  /**
+   * runs the due sessions of the current bucket and moves them to the bucket of their next run.
+   *
+   * @param deadline the deadline of the driver tick, {@code 0} for no deadline.
+   * @param progressed {@code true} if a session was already dispatched in this driver tick.
+   */
+  private void advance(final long deadline, final boolean progressed) {
+    var dispatched = progressed;
+    final var index = (int) (this.current & TickWheel.MASK);
+    final var bucket = this.buckets.get(index);
+    var position = 0;
+    while (position < bucket.size()) {
+      final var session = bucket.get(position);
+      if (session.isCancelled()) {
+        TickWheel.removeAt(bucket, position);
+        continue;
+      }
+      if (session.getDue() > this.current) {
+        position++;
+        continue;
+      }
+      if (dispatched && TickWheel.expired(deadline)) {
+        TickWheel.removeAt(bucket, position);
+        this.carried.add(session);
+        this.deferred.increment();
+        continue;
+      }
+      this.dispatch(session);
+      dispatched = true;
+      if (session.getPeriod() <= 0L) {
+        TickWheel.removeAt(bucket, position);
+        continue;
+      }
+      session.setDue(this.current + session.getPeriod());
+      final var next = (int) (session.getDue() & TickWheel.MASK);
+      if (next == index) {
+        position++;
+      } else {
+        TickWheel.removeAt(bucket, position);
+        this.buckets.get(next).add(session);
+      }
+    }
+  }
+
+  /**
+   * dispatches the sessions that were carried over from the previous driver ticks.
+   *
+   * @param deadline the deadline of the driver tick, {@code 0} for no deadline.
+   *
+   * @return {@code true} if a session was dispatched.
+   */
+  private boolean carry(final long deadline) {
+    final var size = this.carried.size();
+    var dispatched = false;
+    var kept = 0;
+    for (var position = 0; position < size; position++) {
+      final var session = this.carried.get(position);
+      if (session.isCancelled()) {
+        continue;
+      }
+      if (dispatched && TickWheel.expired(deadline)) {
+        this.carried.set(kept++, session);
+        this.deferred.increment();
+        continue;
+      }
+      this.dispatch(session);
+      dispatched = true;
+      if (session.getPeriod() > 0L) {
+        session.setDue(this.current + session.getPeriod());
+        this.buckets.get((int) (session.getDue() & TickWheel.MASK)).add(session);
+      }
+    }
+    this.carried.subList(kept, size).clear();
+    return dispatched;
+  }
+
+  /**
+   * dispatches the given session, errors are logged so one failing page does not stop the others.
+   *
+   * @param session the session to dispatch.
+   */
+  private void dispatch(@NotNull final TickSession session) {
+    this.dispatched.increment();
+    try {
+      session.run();
+    } catch (final Exception exception) {
+      this.plugin.getLogger().log(Level.SEVERE, "Could not tick the page " + session.getHolder().getPage().id(),
+        exception);
+    }
+  }
+
+  /**
+   * places the pending sessions into the buckets of their first run.
+   */
+  private void drain() {
+    TickSession session;
+    while ((session = this.pending.poll()) != null) {
+      if (session.isCancelled()) {
+        continue;
+      }
+      var due = this.current + Math.max(0L, session.getDelay());
+      if (this.spread && session.getPeriod() > 1L) {
+        due += this.placed++ % session.getPeriod();
+      }
+      session.setDue(due);
+      this.buckets.get((int) (due & TickWheel.MASK)).add(session);
+    }
+  }
+
+  /**
+   * starts the driver task.
+   */
+  private synchronized void start() {
+    if (this.task != null) {
+      return;
+    }
+    if (this.async) {
+      this.task = Bukkit.getScheduler().runTaskTimerAsynchronously(this.plugin, this, 1L, 1L);
+    } else {
+      this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this, 1L, 1L);
+    }
+  }
+}
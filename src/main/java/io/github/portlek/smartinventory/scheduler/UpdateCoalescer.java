@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.scheduler;
+
+import io.github.portlek.smartinventory.InventoryContents;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that coalesces the update requests of {@link InventoryContents#notifyUpdate()}.
+ * <p>
+ * when enabled, a request only marks the contents as update-pending, and a single drain on the next server tick runs
+ * {@link io.github.portlek.smartinventory.Page#update(InventoryContents)} once for each pending contents.
+ * when disabled, which is the default, the requests run the update right away.
+ * <p>
+ * the contents whose session ended before the drain are skipped, like a closed page is never updated synchronously.
+ */
+@RequiredArgsConstructor
+public final class UpdateCoalescer implements Runnable {
+
+  /**
+   * the executed update count.
+   */
+  private final LongAdder executed = new LongAdder();
+
+  /**
+   * the contents that wait for the drain.
+   */
+  private final Set<InventoryContents> pending = ConcurrentHashMap.newKeySet();
+
+  /**
+   * the plugin.
+   */
+  @NotNull
+  private final Plugin plugin;
+
+  /**
+   * the requested update count.
+   */
+  private final LongAdder requested = new LongAdder();
+
+  /**
+   * the scheduled guard, so the requests of the same tick share one drain.
+   */
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * the enabled.
+   */
+  @Getter
+  @Setter
+  private volatile boolean enabled;
+
+  /**
+   * checks if the session of the given contents is still open.
+   *
+   * @param contents the contents to check.
+   *
+   * @return {@code true} if the contents are viewed and still the open contents of their player.
+   */
+  private static boolean isOpen(@NotNull final InventoryContents contents) {
+    return contents.isViewed() &&
+      contents.page().inventory().getSessions().get(contents.player().getUniqueId())
+        .filter(holder -> holder.getContents() == contents)
+        .isPresent();
+  }
+
+  /**
+   * drops the pending update of the given contents, if there is one.
+   * <p>
+   * called when the session of the contents ends.
+   *
+   * @param contents the contents to cancel.
+   */
+  public void cancel(@NotNull final InventoryContents contents) {
+    this.pending.remove(contents);
+  }
+
+  /**
+   * obtains the count of the updates that ran.
+   *
+   * @return executed update count.
+   */
+  public long getExecuted() {
+    return this.executed.sum();
+  }
+
+  /**
+   * obtains the count of the contents that wait for the next drain.
+   *
+   * @return pending contents count.
+   */
+  public int getPending() {
+    return this.pending.size();
+  }
+
+  /**
+   * obtains the count of the update requests.
+   *
+   * @return requested update count.
+   */
+  public long getRequested() {
+    return this.requested.sum();
+  }
+
+  /**
+   * requests an update of the given contents.
+   * <p>
+   * if the coalescing is enabled, the contents are marked as update-pending and updated on the next server tick,
+   * otherwise they are updated right away.
+   *
+   * @param contents the contents to update.
+   */
+  public void request(@NotNull final InventoryContents contents) {
+    this.requested.increment();
+    if (!this.enabled) {
+      this.update(contents);
+      return;
+    }
+    if (this.pending.add(contents) && this.scheduled.compareAndSet(false, true)) {
+      Bukkit.getScheduler().runTask(this.plugin, this);
+    }
+  }
+
+  /**
+   * resets the requested and executed counters.
+   */
+  public void resetCounters() {
+    this.requested.reset();
+    this.executed.reset();
+  }
+
+  @Override
+  public void run() {
+    this.scheduled.set(false);
+    final var drained = new ArrayList<InventoryContents>(this.pending.size());
+    final var iterator = this.pending.iterator();
+    while (iterator.hasNext()) {
+      drained.add(iterator.next());
+      iterator.remove();
+    }
+    for (final var contents : drained) {
+      if (!UpdateCoalescer.isOpen(contents)) {
+        continue;
+      }
+      try {
+        this.update(contents);
+      } catch (final Exception exception) {
+        this.plugin.getLogger().log(Level.SEVERE, "Could not update the page " + contents.page().id(), exception);
+      }
+    }
+  }
+
+  /**
+   * runs the update of the given contents.
+   *
+   * @param contents the contents to update.
+   */
+  private void update(@NotNull final InventoryContents contents) {
+    this.executed.increment();
+    contents.page().update(contents);
+  }
+}
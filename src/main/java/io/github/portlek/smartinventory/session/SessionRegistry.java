@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.session;
+
+import io.github.portlek.smartinventory.SmartHolder;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a class that indexes the open {@link SmartHolder}s by player, page id and provider class.
+ * <p>
+ * the registry is maintained by the open and close lifecycle of the pages, so the lookups cost
+ * O(1) or O(matches) instead of scanning all the online players.
+ */
+public final class SessionRegistry {
+
+  /**
+   * the active registries.
+   */
+  private static final Map<Plugin, SessionRegistry> ACTIVE = new ConcurrentHashMap<>();
+
+  /**
+   * the holders by page id.
+   */
+  private final Map<String, Set<SmartHolder>> byPage = new ConcurrentHashMap<>();
+
+  /**
+   * the holders by player unique id.
+   */
+  private final Map<UUID, SmartHolder> byPlayer = new ConcurrentHashMap<>();
+
+  /**
+   * the holders by provider class.
+   */
+  private final Map<Class<?>, Set<SmartHolder>> byProvider = new ConcurrentHashMap<>();
+
+  /**
+   * activates the given registry for the given plugin.
+   *
+   * @param plugin the plugin to activate.
+   * @param registry the registry to activate.
+   */
+  public static void activate(@NotNull final Plugin plugin, @NotNull final SessionRegistry registry) {
+    SessionRegistry.ACTIVE.put(plugin, registry);
+  }
+
+  /**
+   * obtains the active registries.
+   *
+   * @return active registries.
+   */
+  @NotNull
+  public static Collection<SessionRegistry> active() {
+    return Collections.unmodifiableCollection(SessionRegistry.ACTIVE.values());
+  }
+
+  /**
+   * deactivates the registry of the given plugin.
+   *
+   * @param plugin the plugin to deactivate.
+   */
+  public static void deactivate(@NotNull final Plugin plugin) {
+    SessionRegistry.ACTIVE.remove(plugin);
+  }
+
+  /**
+   * obtains all the open holders.
+   *
+   * @return open holders.
+   */
+  @NotNull
+  public Collection<SmartHolder> all() {
+    return Collections.unmodifiableCollection(this.byPlayer.values());
+  }
+
+  /**
+   * obtains the open holders of the page called the given id.
+   *
+   * @param id the id to obtain.
+   *
+   * @return open holders of the page.
+   */
+  @NotNull
+  public Collection<SmartHolder> byPage(@NotNull final String id) {
+    return Collections.unmodifiableCollection(this.byPage.getOrDefault(id, Collections.emptySet()));
+  }
+
+  /**
+   * obtains the open holders of the given provider class.
+   *
+   * @param provider the provider to obtain.
+   *
+   * @return open holders of the provider.
+   */
+  @NotNull
+  public Collection<SmartHolder> byProvider(@NotNull final Class<?> provider) {
+    return Collections.unmodifiableCollection(this.byProvider.getOrDefault(provider, Collections.emptySet()));
+  }
+
+  /**
+   * removes the given holder from the registry if it's still the open holder of its player.
+   *
+   * @param holder the holder to close.
+   */
+  public void close(@NotNull final SmartHolder holder) {
+    if (this.byPlayer.remove(holder.getPlayer().getUniqueId(), holder)) {
+      this.end(holder);
+    }
+  }
+
+  /**
+   * obtains the open holder of the given unique id.
+   *
+   * @param uniqueId the unique id to obtain.
+   *
+   * @return open holder of the player.
+   */
+  @NotNull
+  public Optional<SmartHolder> get(@NotNull final UUID uniqueId) {
+    return Optional.ofNullable(this.byPlayer.get(uniqueId));
+  }
+
+  /**
+   * adds the given holder into the registry, replaces the previous holder of the player if there is.
+   *
+   * @param holder the holder to open.
+   */
+  public void open(@NotNull final SmartHolder holder) {
+    final var previous = this.byPlayer.put(holder.getPlayer().getUniqueId(), holder);
+    if (previous != null && previous != holder) {
+      this.end(previous);
+    }
+    final var page = holder.getPage();
+    this.byPage.computeIfAbsent(page.id(), id -> ConcurrentHashMap.newKeySet()).add(holder);
+    this.byProvider.computeIfAbsent(page.provider().getClass(), provider -> ConcurrentHashMap.newKeySet())
+      .add(holder);
+  }
+
+  /**
+   * removes the given holder from the given index.
+   *
+   * @param index the index to remove.
+   * @param key the key to remove.
+   * @param holder the holder to remove.
+   * @param <K> type of the key.
+   */
+  private static <K> void remove(@NotNull final Map<K, Set<SmartHolder>> index, @NotNull final K key,
+                                 @NotNull final SmartHolder holder) {
+    index.computeIfPresent(key, (k, holders) -> {
+      holders.remove(holder);
+      return holders.isEmpty() ? null : holders;
+    });
+  }
+
+  /**
+   * ends the session of the given holder, drops its pending updates, marks its contents as not viewed, unbinds their
+   * slot bindings and removes it from the indexes.
+   *
+   * @param holder the holder to end.
+   */
+  private void end(@NotNull final SmartHolder holder) {
+    final var contents = holder.getContents();
+    holder.getPage().inventory().updates().cancel(contents);
+    if (contents instanceof BasicInventoryContents) {
+      final var basic = (BasicInventoryContents) contents;
+      basic.setViewed(false);
+      basic.unbindAll();
+    }
+    this.unindex(holder);
+  }
+
+  /**
+   * removes the given holder from the page and the provider indexes.
+   *
+   * @param holder the holder to remove.
+   */
+  private void unindex(@NotNull final SmartHolder holder) {
+    final var page = holder.getPage();
+    SessionRegistry.remove(this.byPage, page.id(), holder);
+    SessionRegistry.remove(this.byProvider, page.provider().getClass(), holder);
+  }
+}
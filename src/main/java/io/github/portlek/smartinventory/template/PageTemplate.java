@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.template;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.util.SlotMask;
+import java.util.function.Consumer;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that represents the static layer of a {@link Page}, e.g. the borders, the navigation buttons and the
+ * decorative panes that are the same for every viewer.
+ * <p>
+ * the layer is built once, its items are calculated once and it is shared read-only by all the sessions of the page,
+ * so the contents of a session only hold the slots that its provider sets on top of it.
+ * <p>
+ * the icons of a template must not depend on the viewer, {@link InventoryContents#player()} is not available while
+ * the template is built and the pre-rendered items must not be mutated.
+ */
+public final class PageTemplate {
+
+  /**
+   * the column count.
+   */
+  private final int columns;
+
+  /**
+   * the editable slots.
+   */
+  @NotNull
+  private final SlotMask editable;
+
+  /**
+   * the icons, indexed by {@code row * columns + column}.
+   */
+  @Nullable
+  private final Icon[] icons;
+
+  /**
+   * the pre-rendered items, indexed by {@code row * columns + column}.
+   */
+  @Nullable
+  private final ItemStack[] items;
+
+  /**
+   * the row count.
+   */
+  private final int rows;
+
+  /**
+   * the icon count.
+   */
+  private final int size;
+
+  /**
+   * ctor.
+   *
+   * @param contents the built contents.
+   */
+  private PageTemplate(@NotNull final TemplateContents contents) {
+    final var page = contents.page();
+    this.rows = page.row();
+    this.columns = page.column();
+    this.editable = contents.getEditable();
+    this.icons = new Icon[this.rows * this.columns];
+    this.items = new ItemStack[this.rows * this.columns];
+    var size = 0;
+    for (var row = 0; row < this.rows; row++) {
+      for (var column = 0; column < this.columns; column++) {
+        final var icon = contents.getIcon(row, column);
+        if (icon != null) {
+          this.icons[row * this.columns + column] = icon;
+          this.items[row * this.columns + column] = icon.calculateItem(contents);
+          size++;
+        }
+      }
+    }
+    this.size = size;
+  }
+
+  /**
+   * builds a template for the current size of the given page.
+   *
+   * @param page the page to build.
+   * @param initializer the initializer that fills the static layer, like {@link
+   *   io.github.portlek.smartinventory.InventoryProvider#init(InventoryContents)}.
+   *
+   * @return a new template.
+   */
+  @NotNull
+  public static PageTemplate of(@NotNull final Page page, @NotNull final Consumer<InventoryContents> initializer) {
+    final var contents = new TemplateContents(page);
+    initializer.accept(contents);
+    return new PageTemplate(contents);
+  }
+
+  /**
+   * copies the editable slots of the template into the given mask.
+   *
+   * @param mask the mask to copy.
+   */
+  public void copyEditable(@NotNull final SlotMask mask) {
+    mask.addAll(this.editable);
+  }
+
+  /**
+   * checks if the given page has the size of the template.
+   *
+   * @param page the page to check.
+   *
+   * @return {@code true} if the page fits.
+   */
+  public boolean fits(@NotNull final Page page) {
+    return page.row() == this.rows && page.column() == this.columns;
+  }
+
+  /**
+   * obtains the column count.
+   *
+   * @return column count.
+   */
+  public int getColumns() {
+    return this.columns;
+  }
+
+  /**
+   * obtains the icon of the given slot.
+   *
+   * @param row the row to obtain.
+   * @param column the column to obtain.
+   *
+   * @return the icon of the slot, or {@code null} if the slot is outside the template or empty.
+   */
+  @Nullable
+  public Icon getIcon(final int row, final int column) {
+    if (!this.contains(row, column)) {
+      return null;
+    }
+    return this.icons[row * this.columns + column];
+  }
+
+  /**
+   * obtains the pre-rendered item of the given slot.
+   *
+   * @param row the row to obtain.
+   * @param column the column to obtain.
+   *
+   * @return the shared item of the slot, or {@code null} if the slot is outside the template or empty.
+   */
+  @Nullable
+  public ItemStack getItem(final int row, final int column) {
+    if (!this.contains(row, column)) {
+      return null;
+    }
+    return this.items[row * this.columns + column];
+  }
+
+  /**
+   * obtains the row count.
+   *
+   * @return row count.
+   */
+  public int getRows() {
+    return this.rows;
+  }
+
+  /**
+   * obtains the count of the slots that have an icon.
+   *
+   * @return the icon count.
+   */
+  public int getSize() {
+    return this.size;
+  }
+
+  /**
+   * checks if the given slot is inside the template.
+   *
+   * @param row the row to check.
+   * @param column the column to check.
+   *
+   * @return {@code true} if the slot is inside.
+   */
+  private boolean contains(final int row, final int column) {
+    return row >= 0 && row < this.rows && column >= 0 && column < this.columns;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.template;
+
+import io.github.portlek.observer.Observable;
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.Pagination;
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.content.BasicPagination;
+import io.github.portlek.smartinventory.util.Pattern;
+import io.github.portlek.smartinventory.util.SlotMask;
+import io.github.portlek.smartinventory.util.SlotPos;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an {@link InventoryContents} without a viewer that collects the static layer of a {@link PageTemplate}.
+ * <p>
+ * nothing is pushed to an inventory, and the methods that need a viewer throw {@link IllegalStateException}.
+ */
+final class TemplateContents implements InventoryContents {
+
+  /**
+   * the contents.
+   */
+  @Nullable
+  private final Icon[][] contents;
+
+  /**
+   * the editable slots.
+   */
+  private final SlotMask editable = new SlotMask();
+
+  /**
+   * the iterators.
+   */
+  private final Map<String, SlotIterator> iterators = new HashMap<>();
+
+  /**
+   * the page.
+   */
+  @NotNull
+  private final Page page;
+
+  /**
+   * the properties.
+   */
+  private final Map<String, Object> properties = new HashMap<>();
+
+  /**
+   * the pagination.
+   */
+  @NotNull
+  private Pagination pagination = new BasicPagination();
+
+  /**
+   * ctor.
+   *
+   * @param page the page.
+   */
+  TemplateContents(@NotNull final Page page) {
+    this.contents = new Icon[page.row()][page.column()];
+    this.page = page;
+  }
+
+  @NotNull
+  @Override
+  public Icon[][] all() {
+    return this.contents.clone();
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents bind(final int row, final int column, @NotNull final Supplier<Icon> icon,
+                                @NotNull final Observable<?>... observables) {
+    throw new IllegalStateException("A page template is static and can't bind slots to observables.");
+  }
+
+  @Nullable
+  @Override
+  public Icon getIcon(final int row, final int column) {
+    if (row < 0 || row >= this.contents.length) {
+      return null;
+    }
+    final var columns = this.contents[row];
+    if (column < 0 || column >= columns.length) {
+      return null;
+    }
+    return columns[column];
+  }
+
+  @NotNull
+  @Override
+  public Map<String, Object> getProperties() {
+    return Collections.unmodifiableMap(this.properties);
+  }
+
+  @Override
+  public boolean isEditable(@NotNull final SlotPos slot) {
+    return this.editable.contains(slot);
+  }
+
+  @Override
+  public boolean isViewed() {
+    return false;
+  }
+
+  @NotNull
+  @Override
+  public Optional<SlotIterator> iterator(@NotNull final String id) {
+    return Optional.ofNullable(this.iterators.get(id));
+  }
+
+  @NotNull
+  @Override
+  public SlotIterator newIterator(@NotNull final String id, @NotNull final SlotIterator.Type type,
+                                  final int startRow, final int startColumn) {
+    final var iterator = this.newIterator(type, startRow, startColumn);
+    this.iterators.put(id, iterator);
+    return iterator;
+  }
+
+  @NotNull
+  @Override
+  public Page page() {
+    return this.page;
+  }
+
+  @NotNull
+  @Override
+  public Pagination pagination() {
+    return this.pagination;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents pagination(@NotNull final Pagination pagination) {
+    this.pagination = pagination;
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public Player player() {
+    throw new IllegalStateException("A page template has no player.");
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents set(final int row, final int column, @Nullable final Icon item) {
+    if (row < 0 || row >= this.contents.length) {
+      return this;
+    }
+    if (column < 0 || column >= this.contents[row].length) {
+      return this;
+    }
+    this.contents[row][column] = item;
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents setEditable(@NotNull final SlotPos slot, final boolean editable) {
+    this.editable.set(slot.getRow(), slot.getColumn(), editable);
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents setEditable(@NotNull final Pattern<Boolean> pattern, final int rowOffset,
+                                       final int columnOffset) {
+    this.editable.setPattern(pattern, rowOffset, columnOffset);
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents setEditableRect(final int fromRow, final int fromColumn, final int toRow,
+                                           final int toColumn, final boolean editable) {
+    this.editable.setRect(fromRow, fromColumn, toRow, toColumn, editable);
+    return this;
+  }
+
+  @NotNull
+  @Override
+  public InventoryContents setProperty(@NotNull final String name, @NotNull final Object value) {
+    this.properties.put(name, value);
+    return this;
+  }
+
+  @Override
+  public void updateTitle(@NotNull final String newTitle) {
+    throw new IllegalStateException("A page template has no inventory to update the title of.");
+  }
+
+  /**
+   * obtains the editable slots.
+   *
+   * @return the editable slots.
+   */
+  @NotNull
+  SlotMask getEditable() {
+    return this.editable;
+  }
+}
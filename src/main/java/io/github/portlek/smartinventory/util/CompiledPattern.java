@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.util;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a snapshot of a {@link Pattern} that resolves the characters of the pattern to their values once and keeps them in
+ * a flat array indexed by {@code row * columnCount + column}.
+ * <p>
+ * the lookups neither box the characters nor search the mapping, so the fills that visit every slot stay cheap.
+ * two compiled patterns are equal if their sizes, wrap around and values are equal, so the patterns that are built
+ * again for every page open still share the cached slot plans of the page.
+ *
+ * @param <T> the type of the values.
+ *
+ * @see Pattern#compile()
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledPattern<T> {
+
+  /**
+   * the column count.
+   */
+  private final int columnCount;
+
+  /**
+   * the row count.
+   */
+  private final int rowCount;
+
+  /**
+   * the values, {@code null} for the slots that have no value.
+   */
+  @NotNull
+  @Getter(AccessLevel.NONE)
+  private final Object[] values;
+
+  /**
+   * the wrap around.
+   */
+  private final boolean wrapAround;
+
+  /**
+   * retrieves the value at the given row and column in this pattern.
+   * <p>
+   * if wrapAround is set to {@code true}, the row and column wrap around to the other side, like the pattern would be
+   * endless. if not, {@link IndexOutOfBoundsException} will be thrown for the positions outside the pattern.
+   *
+   * @param row the row of the value.
+   * @param column the column of the value.
+   *
+   * @return the value, or {@code null} if the slot has no value.
+   *
+   * @see Pattern#getObject(int, int)
+   */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public T getObject(final int row, final int column) {
+    var rowCache = row;
+    var columnCache = column;
+    if (this.wrapAround) {
+      rowCache = Math.floorMod(rowCache, this.rowCount);
+      columnCache = Math.floorMod(columnCache, this.columnCount);
+    } else {
+      Preconditions.checkElementIndex(rowCache, this.rowCount, "The row must be between 0 and the row count");
+      Preconditions.checkElementIndex(columnCache, this.columnCount,
+        "The column must be between 0 and the column size");
+    }
+    return (T) this.values[rowCache * this.columnCount + columnCache];
+  }
+}
@@ -58,6 +58,12 @@ public final class Pattern<T> {
    */
   private final boolean wrapAround;
 
+  /**
+   * the compiled snapshot of the pattern, dropped when the mapping or the default value changes.
+   */
+  @Nullable
+  private CompiledPattern<T> compiled;
+
   /**
    * the default value.
    */
@@ -111,9 +117,36 @@ public final class Pattern<T> {
   @NotNull
   public Pattern<T> attach(final char character, @NotNull final T object) {
     this.mapping.put(character, object);
+    this.compiled = null;
     return this;
   }
 
+  /**
+   * compiles the pattern into a {@link CompiledPattern}, which resolves the values of all the slots once.
+   * <p>
+   * the compiled pattern is cached until {@link #attach(char, Object)} or {@link #setDefault(Object)} is called.
+   *
+   * @return the compiled pattern.
+   */
+  @NotNull
+  public CompiledPattern<T> compile() {
+    var compiled = this.compiled;
+    if (compiled == null) {
+      final var rows = this.getRowCount();
+      final var columns = this.getColumnCount();
+      final var values = new Object[rows * columns];
+      for (var row = 0; row < rows; row++) {
+        final var line = this.lines[row];
+        for (var column = 0; column < columns; column++) {
+          values[row * columns + column] = this.mapping.getOrDefault(line.charAt(column), this.defaultValue);
+        }
+      }
+      compiled = new CompiledPattern<>(columns, rows, values, this.wrapAround);
+      this.compiled = compiled;
+    }
+    return compiled;
+  }
+
   /**
    * searches through this patterns lines to find all occurrences of this key.
    * the first position is the most top-left and the last position is the most bottom-right one.
@@ -229,23 +262,7 @@ public final class Pattern<T> {
    */
   @NotNull
   public Optional<T> getObject(final int row, final int column) {
-    var rowCache = row;
-    var columnCache = column;
-    if (this.wrapAround) {
-      rowCache %= this.getRowCount();
-      if (rowCache < 0) {
-        rowCache += this.getRowCount();
-      }
-      columnCache %= this.getColumnCount();
-      if (columnCache < 0) {
-        columnCache += this.getColumnCount();
-      }
-    } else {
-      Preconditions.checkElementIndex(rowCache, this.lines.length, "The row must be between 0 and the row count");
-      Preconditions.checkElementIndex(columnCache, this.lines[0].length(), "The column must be between 0 and the column size");
-    }
-    return Optional.ofNullable(
-      this.mapping.getOrDefault(this.lines[rowCache].charAt(columnCache), this.defaultValue));
+    return Optional.ofNullable(this.compile().getObject(row, column));
   }
 
   /**
@@ -276,6 +293,7 @@ public final class Pattern<T> {
   @NotNull
   public Pattern<T> setDefault(@NotNull final T defaultValue) {
     this.defaultValue = defaultValue;
+    this.compiled = null;
     return this;
   }
 }
@@ -0,0 +1,252 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.util;
+
+import lombok.EqualsAndHashCode;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a set of slot positions that is backed by two {@code long} bit masks, indexed by {@link SlotPos#pack(int, int)}.
+ * <p>
+ * the mask covers the first {@value #CAPACITY} packed slots, so the layouts up to 14 rows of {@value SlotPos#COLUMNS}
+ * columns. the positions outside of it are never contained and ignored on add, since no inventory has them.
+ * <p>
+ * the mask is not thread-safe.
+ */
+@EqualsAndHashCode
+public final class SlotMask {
+
+  /**
+   * the packed slot count that the mask covers.
+   */
+  public static final int CAPACITY = 2 * Long.SIZE;
+
+  /**
+   * the bits of the packed slots from 64 to 127.
+   */
+  private long high;
+
+  /**
+   * the bits of the packed slots from 0 to 63.
+   */
+  private long low;
+
+  /**
+   * checks if the given position fits in a mask.
+   *
+   * @param row the row to check.
+   * @param column the column to check.
+   *
+   * @return {@code true} if the position fits.
+   */
+  public static boolean fits(final int row, final int column) {
+    return row >= 0 && column >= 0 && column < SlotPos.COLUMNS && SlotPos.pack(row, column) < SlotMask.CAPACITY;
+  }
+
+  /**
+   * adds the given position.
+   *
+   * @param row the row to add.
+   * @param column the column to add.
+   */
+  public void add(final int row, final int column) {
+    this.set(row, column, true);
+  }
+
+  /**
+   * adds the given position.
+   *
+   * @param slot the slot to add.
+   */
+  public void add(@NotNull final SlotPos slot) {
+    this.add(slot.getRow(), slot.getColumn());
+  }
+
+  /**
+   * adds all the positions of the given mask.
+   *
+   * @param mask the mask to add.
+   */
+  public void addAll(@NotNull final SlotMask mask) {
+    this.high |= mask.high;
+    this.low |= mask.low;
+  }
+
+  /**
+   * adds the given rect of positions, the corners are inclusive.
+   *
+   * @param fromRow the row of the first corner of the rect.
+   * @param fromColumn the column of the first corner of the rect.
+   * @param toRow the row of the second corner of the rect.
+   * @param toColumn the column of the second corner of the rect.
+   */
+  public void addRect(final int fromRow, final int fromColumn, final int toRow, final int toColumn) {
+    this.setRect(fromRow, fromColumn, toRow, toColumn, true);
+  }
+
+  /**
+   * removes all the positions.
+   */
+  public void clear() {
+    this.high = 0L;
+    this.low = 0L;
+  }
+
+  /**
+   * copies the mask.
+   *
+   * @return a new mask that has the positions of the mask.
+   */
+  @NotNull
+  public SlotMask copy() {
+    final var copy = new SlotMask();
+    copy.addAll(this);
+    return copy;
+  }
+
+  /**
+   * checks if the given position is in the mask.
+   *
+   * @param row the row to check.
+   * @param column the column to check.
+   *
+   * @return {@code true} if the position is in the mask.
+   */
+  public boolean contains(final int row, final int column) {
+    if (!SlotMask.fits(row, column)) {
+      return false;
+    }
+    final var packed = SlotPos.pack(row, column);
+    final var bits = packed < Long.SIZE ? this.low : this.high;
+    return (bits & 1L << packed) != 0L;
+  }
+
+  /**
+   * checks if the given position is in the mask.
+   *
+   * @param slot the slot to check.
+   *
+   * @return {@code true} if the position is in the mask.
+   */
+  public boolean contains(@NotNull final SlotPos slot) {
+    return this.contains(slot.getRow(), slot.getColumn());
+  }
+
+  /**
+   * checks if the mask is empty.
+   *
+   * @return {@code true} if there is no position in the mask.
+   */
+  public boolean isEmpty() {
+    return this.low == 0L && this.high == 0L;
+  }
+
+  /**
+   * removes the given position.
+   *
+   * @param row the row to remove.
+   * @param column the column to remove.
+   */
+  public void remove(final int row, final int column) {
+    this.set(row, column, false);
+  }
+
+  /**
+   * removes the given position.
+   *
+   * @param slot the slot to remove.
+   */
+  public void remove(@NotNull final SlotPos slot) {
+    this.remove(slot.getRow(), slot.getColumn());
+  }
+
+  /**
+   * adds or removes the given position.
+   *
+   * @param row the row to set.
+   * @param column the column to set.
+   * @param value {@code true} to add the position, {@code false} to remove it.
+   */
+  public void set(final int row, final int column, final boolean value) {
+    if (!SlotMask.fits(row, column)) {
+      return;
+    }
+    final var packed = SlotPos.pack(row, column);
+    final var bit = 1L << packed;
+    if (packed < Long.SIZE) {
+      this.low = value ? this.low | bit : this.low & ~bit;
+    } else {
+      this.high = value ? this.high | bit : this.high & ~bit;
+    }
+  }
+
+  /**
+   * adds or removes the positions of the given pattern by their values.
+   * <p>
+   * the positions without a value are left as they are.
+   *
+   * @param pattern the pattern to set.
+   * @param rowOffset the row offset of the pattern.
+   * @param columnOffset the column offset of the pattern.
+   */
+  public void setPattern(@NotNull final Pattern<Boolean> pattern, final int rowOffset, final int columnOffset) {
+    final var compiled = pattern.compile();
+    for (var row = 0; row < compiled.getRowCount(); row++) {
+      for (var column = 0; column < compiled.getColumnCount(); column++) {
+        final var value = compiled.getObject(row, column);
+        if (value != null) {
+          this.set(rowOffset + row, columnOffset + column, value);
+        }
+      }
+    }
+  }
+
+  /**
+   * adds or removes the given rect of positions, the corners are inclusive.
+   *
+   * @param fromRow the row of the first corner of the rect.
+   * @param fromColumn the column of the first corner of the rect.
+   * @param toRow the row of the second corner of the rect.
+   * @param toColumn the column of the second corner of the rect.
+   * @param value {@code true} to add the positions, {@code false} to remove them.
+   */
+  public void setRect(final int fromRow, final int fromColumn, final int toRow, final int toColumn,
+                      final boolean value) {
+    for (var row = fromRow; row <= toRow; row++) {
+      for (var column = fromColumn; column <= toColumn; column++) {
+        this.set(row, column, value);
+      }
+    }
+  }
+
+  /**
+   * counts the positions in the mask.
+   *
+   * @return the position count.
+   */
+  public int size() {
+    return Long.bitCount(this.low) + Long.bitCount(this.high);
+  }
+}
@@ -34,6 +34,10 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * represents the position (row + column) of a slot in an inventory.
+ * <p>
+ * the positions of the largest chest, {@value #ROWS} rows and {@value #COLUMNS} columns, are interned, so
+ * {@link #of(int, int)} does not allocate for them and they can also be passed around as packed ints through
+ * {@link #pack(int, int)}, {@link #row(int)} and {@link #column(int)}.
  */
 @Getter
 @ToString
@@ -41,6 +45,21 @@ import org.jetbrains.annotations.NotNull;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SlotPos {
 
+  /**
+   * the column count of the interned positions.
+   */
+  public static final int COLUMNS = 9;
+
+  /**
+   * the row count of the interned positions.
+   */
+  public static final int ROWS = 6;
+
+  /**
+   * the interned positions, indexed by their packed slot.
+   */
+  private static final SlotPos[] TABLE = SlotPos.createTable();
+
   /**
    * the column.
    */
@@ -52,15 +71,103 @@ public final class SlotPos {
   private final int row;
 
   /**
-   * creates a simple slot position instance.
+   * obtains the column of the given packed slot.
+   *
+   * @param packed the packed slot to obtain.
+   *
+   * @return the column of the packed slot.
+   */
+  public static int column(final int packed) {
+    return packed % SlotPos.COLUMNS;
+  }
+
+  /**
+   * checks if the given position is interned.
    *
-   * @param row the row to create.
-   * @param column the column to create.
+   * @param row the row to check.
+   * @param column the column to check.
    *
-   * @return a simple slot position instance.
+   * @return {@code true} if the position is inside the {@value #ROWS}x{@value #COLUMNS} table.
+   */
+  public static boolean isInterned(final int row, final int column) {
+    return row >= 0 && row < SlotPos.ROWS && column >= 0 && column < SlotPos.COLUMNS;
+  }
+
+  /**
+   * obtains a slot position instance.
+   *
+   * @param row the row to obtain.
+   * @param column the column to obtain.
+   *
+   * @return the interned slot position, or a new one if the position is outside the table.
    */
   @NotNull
   public static SlotPos of(final int row, final int column) {
+    if (SlotPos.isInterned(row, column)) {
+      return SlotPos.TABLE[SlotPos.pack(row, column)];
+    }
     return new SlotPos(column, row);
   }
+
+  /**
+   * obtains the slot position of the given packed slot.
+   *
+   * @param packed the packed slot to obtain.
+   *
+   * @return the slot position of the packed slot.
+   */
+  @NotNull
+  public static SlotPos of(final int packed) {
+    return SlotPos.of(SlotPos.row(packed), SlotPos.column(packed));
+  }
+
+  /**
+   * packs the given position into a single int, which is also the raw slot of the position in a chest.
+   *
+   * @param row the row to pack.
+   * @param column the column to pack, must be less than {@value #COLUMNS}.
+   *
+   * @return the packed slot.
+   */
+  public static int pack(final int row, final int column) {
+    return row * SlotPos.COLUMNS + column;
+  }
+
+  /**
+   * obtains the row of the given packed slot.
+   *
+   * @param packed the packed slot to obtain.
+   *
+   * @return the row of the packed slot.
+   */
+  public static int row(final int packed) {
+    return packed / SlotPos.COLUMNS;
+  }
+
+  /**
+   * creates the interned positions.
+   *
+   * @return the interned positions.
+   */
+  @NotNull
+  private static SlotPos[] createTable() {
+    final var table = new SlotPos[SlotPos.ROWS * SlotPos.COLUMNS];
+    for (var row = 0; row < SlotPos.ROWS; row++) {
+      for (var column = 0; column < SlotPos.COLUMNS; column++) {
+        table[SlotPos.pack(row, column)] = new SlotPos(column, row);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * packs the position into a single int.
+   *
+   * @return the packed slot.
+   *
+   * @see #pack(int, int)
+   */
+  public int pack() {
+    return SlotPos.pack(this.row, this.column);
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.watchdog;
+
+import io.github.portlek.smartinventory.util.SlotPos;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an invocation that took longer than the threshold of the {@link Watchdog}.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class SlowCall {
+
+  /**
+   * the duration in nanoseconds.
+   */
+  private final long duration;
+
+  /**
+   * the class of the event, if the invocation handled an event.
+   */
+  @Nullable
+  private final Class<?> event;
+
+  /**
+   * the class of the handler's code, if the invocation ran a single handler.
+   */
+  @Nullable
+  private final Class<?> handler;
+
+  /**
+   * the page id.
+   */
+  @NotNull
+  private final String page;
+
+  /**
+   * the watch point.
+   */
+  @NotNull
+  private final WatchPoint point;
+
+  /**
+   * the slot, if the invocation belongs to a slot.
+   */
+  @Nullable
+  private final SlotPos slot;
+
+  /**
+   * the stack trace of the call site, if it is sampled.
+   */
+  @Nullable
+  private final StackTraceElement[] stackTrace;
+
+  /**
+   * the thread name.
+   */
+  @NotNull
+  private final String thread;
+
+  /**
+   * the epoch millis that the invocation finished at.
+   */
+  private final long timestamp;
+
+  @Override
+  public String toString() {
+    return String.format("%s took %.2fms on page %s%s%s%s in %s", this.point, this.duration / 1_000_000.0d,
+      this.page, this.slot == null ? "" : " at " + this.slot.getRow() + ":" + this.slot.getColumn(),
+      this.event == null ? "" : " for " + this.event.getSimpleName(),
+      this.handler == null ? "" : " by " + this.handler.getName(), this.thread);
+  }
+}
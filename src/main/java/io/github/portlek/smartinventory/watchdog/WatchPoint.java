@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.watchdog;
+
+/**
+ * an enum set that contains the invocations that are watched by {@link Watchdog}.
+ */
+public enum WatchPoint {
+  /**
+   * {@link io.github.portlek.smartinventory.Page#accept}.
+   */
+  PAGE_ACCEPT,
+  /**
+   * {@link io.github.portlek.smartinventory.Icon#accept}.
+   */
+  ICON_ACCEPT,
+  /**
+   * {@link io.github.portlek.smartinventory.Icon#calculateItem}.
+   */
+  ICON_CALCULATE,
+  /**
+   * {@link io.github.portlek.smartinventory.InventoryProvider#init}.
+   */
+  PROVIDER_INIT,
+  /**
+   * {@link io.github.portlek.smartinventory.InventoryProvider#tick}.
+   */
+  PROVIDER_TICK,
+  /**
+   * the update of the providers that are notified by
+   * {@link io.github.portlek.smartinventory.Page#notifyUpdate}.
+   */
+  PROVIDER_UPDATE
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.watchdog;
+
+import com.google.common.base.Preconditions;
+import io.github.portlek.smartinventory.util.SlotPos;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * an opt-in watchdog that records the page, icon and provider invocations that take longer than a threshold into a
+ * bounded ring buffer.
+ * <p>
+ * the watched paths call {@link #start()} and {@link #check(long, WatchPoint, String, int, int, Class)} around the
+ * invocation. below the threshold that is a clock read and a comparison, the attribution and the stack trace are
+ * only built for the slow invocations. when disabled, it is a volatile read and a branch.
+ */
+public final class Watchdog {
+
+  /**
+   * the default capacity of the ring buffer.
+   */
+  public static final int DEFAULT_CAPACITY = 128;
+
+  /**
+   * the default threshold in milliseconds.
+   */
+  public static final long DEFAULT_THRESHOLD = 5L;
+
+  /**
+   * the ring buffer.
+   */
+  @NotNull
+  private final AtomicReferenceArray<SlowCall> calls;
+
+  /**
+   * the slow invocation count.
+   */
+  private final AtomicLong recorded = new AtomicLong();
+
+  /**
+   * the enabled.
+   */
+  @Getter
+  @Setter
+  private volatile boolean enabled;
+
+  /**
+   * the count of the slow invocations per stack trace sample, {@code 0} to never sample.
+   */
+  @Getter
+  private volatile int stackSampling = 1;
+
+  /**
+   * the threshold in nanoseconds.
+   */
+  private volatile long threshold = TimeUnit.MILLISECONDS.toNanos(Watchdog.DEFAULT_THRESHOLD);
+
+  /**
+   * ctor.
+   *
+   * @param capacity the capacity of the ring buffer.
+   */
+  public Watchdog(final int capacity) {
+    Preconditions.checkArgument(capacity > 0, "The capacity must be positive.");
+    this.calls = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * ctor.
+   */
+  public Watchdog() {
+    this(Watchdog.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * checks the invocation that started at the given start, and records it if it is slow.
+   *
+   * @param start the start that is obtained from {@link #start()}, nothing is checked if it is {@code 0}.
+   * @param point the watch point.
+   * @param page the page id.
+   * @param row the row of the slot, or {@code -1} if the invocation does not belong to a slot.
+   * @param column the column of the slot, or {@code -1} if the invocation does not belong to a slot.
+   * @param event the class of the handled event, or {@code null} if the invocation does not handle an event.
+   */
+  public void check(final long start, @NotNull final WatchPoint point, @NotNull final String page, final int row,
+                    final int column, @Nullable final Class<?> event) {
+    if (start == 0L) {
+      return;
+    }
+    final var duration = System.nanoTime() - start;
+    if (duration < this.threshold) {
+      return;
+    }
+    this.record(duration, point, page, row, column, event, null);
+  }
+
+  /**
+   * checks the invocation of a handler that started at the given start, and records it with the handler's class if
+   * it is slow.
+   *
+   * @param start the start that is obtained from {@link #start()}, nothing is checked if it is {@code 0}.
+   * @param point the watch point.
+   * @param page the page id.
+   * @param row the row of the slot, or {@code -1} if the invocation does not belong to a slot.
+   * @param column the column of the slot, or {@code -1} if the invocation does not belong to a slot.
+   * @param event the class of the handled event.
+   * @param handler the class of the handler's code.
+   */
+  public void check(final long start, @NotNull final WatchPoint point, @NotNull final String page, final int row,
+                    final int column, @NotNull final Class<?> event, @NotNull final Class<?> handler) {
+    if (start == 0L) {
+      return;
+    }
+    final var duration = System.nanoTime() - start;
+    if (duration < this.threshold) {
+      return;
+    }
+    this.record(duration, point, page, row, column, event, handler);
+  }
+
+  /**
+   * clears the ring buffer.
+   */
+  public void clear() {
+    for (var index = 0; index < this.calls.length(); index++) {
+      this.calls.set(index, null);
+    }
+  }
+
+  /**
+   * obtains the slow invocations in the ring buffer, from the oldest to the newest.
+   *
+   * @return the slow invocations.
+   */
+  @NotNull
+  public List<SlowCall> dump() {
+    final var capacity = this.calls.length();
+    final var end = this.recorded.get();
+    final var dumped = new ArrayList<SlowCall>(capacity);
+    for (var index = Math.max(0L, end - capacity); index < end; index++) {
+      final var call = this.calls.get((int) (index % capacity));
+      if (call != null) {
+        dumped.add(call);
+      }
+    }
+    return dumped;
+  }
+
+  /**
+   * obtains the slow invocation count since the creation.
+   *
+   * @return the slow invocation count, including the ones that are overwritten in the ring buffer.
+   */
+  public long getRecorded() {
+    return this.recorded.get();
+  }
+
+  /**
+   * obtains the threshold.
+   *
+   * @return the threshold in milliseconds.
+   */
+  public long getThreshold() {
+    return TimeUnit.NANOSECONDS.toMillis(this.threshold);
+  }
+
+  /**
+   * sets the count of the slow invocations per stack trace sample.
+   *
+   * @param stackSampling {@code 1} to sample every slow invocation, {@code 0} to never sample.
+   */
+  public void setStackSampling(final int stackSampling) {
+    Preconditions.checkArgument(stackSampling >= 0, "The stack sampling cannot be negative.");
+    this.stackSampling = stackSampling;
+  }
+
+  /**
+   * sets the threshold.
+   *
+   * @param threshold the threshold in milliseconds.
+   */
+  public void setThreshold(final long threshold) {
+    Preconditions.checkArgument(threshold >= 0L, "The threshold cannot be negative.");
+    this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+  }
+
+  /**
+   * starts watching an invocation.
+   *
+   * @return the current nano time, or {@code 0} if the watchdog is disabled.
+   */
+  public long start() {
+    if (!this.enabled) {
+      return 0L;
+    }
+    final var now = System.nanoTime();
+    return now == 0L ? 1L : now;
+  }
+
+  /**
+   * records a slow invocation.
+   *
+   * @param duration the duration in nanoseconds.
+   * @param point the watch point.
+   * @param page the page id.
+   * @param row the row of the slot.
+   * @param column the column of the slot.
+   * @param event the class of the handled event.
+   * @param handler the class of the handler's code.
+   */
+  private void record(final long duration, @NotNull final WatchPoint point, @NotNull final String page,
+                      final int row, final int column, @Nullable final Class<?> event,
+                      @Nullable final Class<?> handler) {
+    final var index = this.recorded.getAndIncrement();
+    final var sampling = this.stackSampling;
+    StackTraceElement[] stackTrace = null;
+    if (sampling > 0 && index % sampling == 0) {
+      final var trace = Thread.currentThread().getStackTrace();
+      stackTrace = Arrays.copyOfRange(trace, Math.min(3, trace.length), trace.length);
+    }
+    final var slot = row < 0 || column < 0 ? null : SlotPos.of(row, column);
+    this.calls.set((int) (index % this.calls.length()), new SlowCall(duration, event, handler, page, point, slot,
+      stackTrace, Thread.currentThread().getName(), System.currentTimeMillis()));
+  }
+}
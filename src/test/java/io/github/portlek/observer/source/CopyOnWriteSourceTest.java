@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.observer.source;
+
+import io.github.portlek.observer.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link CopyOnWriteSource} keeps its subscriptions consistent under concurrent changes and drops
+ * the collected targets in the weak mode.
+ */
+final class CopyOnWriteSourceTest {
+
+  /**
+   * the thread count of the concurrent changes.
+   */
+  private static final int THREADS = 8;
+
+  /**
+   * the target count of each thread.
+   */
+  private static final int TARGETS = 500;
+
+  /**
+   * runs the given task on the given count of threads that start together, and waits for them.
+   *
+   * @param threads the thread count.
+   * @param task the task to run with the index of its thread.
+   *
+   * @throws InterruptedException if the wait is interrupted.
+   */
+  private static void race(final int threads, @NotNull final IntConsumer task)
+    throws InterruptedException {
+    final var start = new CountDownLatch(1);
+    final var done = new CountDownLatch(threads);
+    for (var index = 0; index < threads; index++) {
+      final var thread = index;
+      new Thread(() -> {
+        try {
+          start.await();
+          task.accept(thread);
+        } catch (final InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      }).start();
+    }
+    start.countDown();
+    Assertions.assertTrue(done.await(10L, TimeUnit.SECONDS));
+  }
+
+  /**
+   * checks that the concurrent subscribes and unsubscribes are not lost by the compare-and-set.
+   *
+   * @throws InterruptedException if the wait is interrupted.
+   */
+  @Test
+  void concurrentChangesAreNotLost() throws InterruptedException {
+    final var source = new CopyOnWriteSource<Integer>();
+    final var targets = new ArrayList<List<Target<Integer>>>();
+    for (var thread = 0; thread < CopyOnWriteSourceTest.THREADS; thread++) {
+      final var list = new ArrayList<Target<Integer>>();
+      for (var index = 0; index < CopyOnWriteSourceTest.TARGETS; index++) {
+        list.add(new Target<>() {
+          @Override
+          public void update(@NotNull final Integer argument) {
+          }
+        });
+      }
+      targets.add(list);
+    }
+    CopyOnWriteSourceTest.race(CopyOnWriteSourceTest.THREADS, thread -> targets.get(thread).forEach(source::subscribe));
+    Assertions.assertEquals(CopyOnWriteSourceTest.THREADS * CopyOnWriteSourceTest.TARGETS, source.size());
+    CopyOnWriteSourceTest.race(CopyOnWriteSourceTest.THREADS, thread ->
+      targets.get(thread).forEach(source::unsubscribe));
+    Assertions.assertEquals(0, source.size());
+  }
+
+  /**
+   * checks that a target is subscribed once, however many times it subscribes.
+   */
+  @Test
+  void duplicateSubscriptionsAreIgnored() {
+    final var source = new CopyOnWriteSource<Integer>();
+    final var calls = new AtomicInteger();
+    final Target<Integer> target = argument -> calls.incrementAndGet();
+    source.subscribe(target);
+    source.subscribe(target);
+    source.notifyTargets(1);
+    Assertions.assertEquals(1, source.size());
+    Assertions.assertEquals(1, calls.get());
+    source.unsubscribe(target);
+    source.notifyTargets(2);
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  /**
+   * checks that a target can unsubscribe while it is notified and the others are still notified.
+   */
+  @Test
+  void targetsCanUnsubscribeWhileNotified() {
+    final var source = new CopyOnWriteSource<Integer>();
+    final var calls = new AtomicInteger();
+    source.subscribe(new Target<>() {
+      @Override
+      public void update(@NotNull final Integer argument) {
+        source.unsubscribe(this);
+      }
+    });
+    source.subscribe(argument -> calls.incrementAndGet());
+    source.notifyTargets(1);
+    source.notifyTargets(2);
+    Assertions.assertEquals(1, source.size());
+    Assertions.assertEquals(2, calls.get());
+  }
+
+  /**
+   * checks that the weak mode drops the targets that were collected and the strong mode keeps them.
+   *
+   * @throws InterruptedException if the wait is interrupted.
+   */
+  @Test
+  void weakTargetsAreDropped() throws InterruptedException {
+    final var weak = new CopyOnWriteSource<Integer>(true);
+    final var strong = new CopyOnWriteSource<Integer>();
+    final var calls = new AtomicInteger();
+    final Target<Integer> kept = argument -> calls.incrementAndGet();
+    weak.subscribe(kept);
+    weak.subscribe(argument -> calls.incrementAndGet());
+    strong.subscribe(argument -> calls.incrementAndGet());
+    for (var attempt = 0; attempt < 50 && weak.size() > 1; attempt++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+    Assertions.assertEquals(1, weak.size());
+    Assertions.assertEquals(1, strong.size());
+    weak.notifyTargets(1);
+    strong.notifyTargets(1);
+    Assertions.assertEquals(2, calls.get());
+    weak.unsubscribe(kept);
+    Assertions.assertEquals(0, weak.size());
+  }
+}
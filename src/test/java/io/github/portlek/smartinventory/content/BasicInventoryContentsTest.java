@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the batches of the {@link BasicInventoryContents} push their dirty slots once, when the outermost batch
+ * is committed.
+ */
+final class BasicInventoryContentsTest {
+
+  /**
+   * the contents of the viewer.
+   */
+  private BasicInventoryContents contents;
+
+  /**
+   * the viewer.
+   */
+  private FakePlayer player;
+
+  /**
+   * creates an icon of the given type.
+   *
+   * @param type the type of the icon.
+   *
+   * @return a new icon.
+   */
+  @NotNull
+  private static Icon icon(@NotNull final Material type) {
+    return Icon.from(new ItemStack(type));
+  }
+
+  /**
+   * opens an empty page for a viewer.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var inventory = new BasicSmartInventory(server.getPlugin());
+    inventory.init();
+    this.player = server.join("viewer");
+    Page.build(inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+      }
+    }).row(3).open(this.player.getPlayer());
+    this.contents = (BasicInventoryContents) SmartInventory.getHolder(this.player.getPlayer()).orElseThrow()
+      .getContents();
+    this.contents.renderer().resetCounters();
+  }
+
+  /**
+   * checks that the slots are pushed when the batch is committed.
+   */
+  @Test
+  void batchedSlotsAreFlushedOnCommit() {
+    this.contents.beginBatch();
+    this.contents.set(0, 0, BasicInventoryContentsTest.icon(Material.DIRT));
+    this.contents.set(1, 4, BasicInventoryContentsTest.icon(Material.STONE));
+    Assertions.assertNull(this.player.getTop().getItem(0));
+    Assertions.assertEquals(0, this.contents.renderer().getWritten());
+    this.contents.commitBatch();
+    Assertions.assertEquals(Material.DIRT, this.player.getTop().getItem(0).getType());
+    Assertions.assertEquals(Material.STONE, this.player.getTop().getItem(13).getType());
+    Assertions.assertEquals(2, this.contents.renderer().getWritten());
+  }
+
+  /**
+   * checks that the slots are pushed even if the batch fails.
+   */
+  @Test
+  void failedBatchesAreFlushed() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> this.contents.batch(batch -> {
+      batch.set(0, 0, BasicInventoryContentsTest.icon(Material.DIRT));
+      throw new IllegalArgumentException();
+    }));
+    Assertions.assertEquals(Material.DIRT, this.player.getTop().getItem(0).getType());
+    this.contents.set(0, 1, BasicInventoryContentsTest.icon(Material.STONE));
+    Assertions.assertEquals(Material.STONE, this.player.getTop().getItem(1).getType());
+  }
+
+  /**
+   * checks that the nested batches are pushed by the outermost commit.
+   */
+  @Test
+  void nestedBatchesAreFlushedByTheOuterCommit() {
+    this.contents.beginBatch();
+    this.contents.batch(batch -> batch.set(0, 0, BasicInventoryContentsTest.icon(Material.DIRT)));
+    Assertions.assertNull(this.player.getTop().getItem(0));
+    this.contents.commitBatch();
+    Assertions.assertEquals(Material.DIRT, this.player.getTop().getItem(0).getType());
+  }
+
+  /**
+   * checks that a slot that is set many times in a batch is written once with its last icon.
+   */
+  @Test
+  void repeatedSetsAreWrittenOnce() {
+    this.contents.batch(batch -> {
+      batch.set(0, 0, BasicInventoryContentsTest.icon(Material.DIRT));
+      batch.set(0, 0, BasicInventoryContentsTest.icon(Material.STONE));
+      batch.set(0, 0, BasicInventoryContentsTest.icon(Material.SAND));
+    });
+    Assertions.assertEquals(Material.SAND, this.player.getTop().getItem(0).getType());
+    Assertions.assertEquals(1, this.contents.renderer().getWritten());
+  }
+
+  /**
+   * checks that a commit without a batch fails.
+   */
+  @Test
+  void unbalancedCommitsFail() {
+    Assertions.assertThrows(IllegalStateException.class, this.contents::commitBatch);
+  }
+}
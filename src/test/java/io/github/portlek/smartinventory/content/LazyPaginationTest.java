@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.Icon;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link LazyPagination} loads only the needed pages, prefetches their neighbors, keeps the recent
+ * ones and pages the fixed icons that replace its source.
+ */
+final class LazyPaginationTest {
+
+  /**
+   * the entry count of the source.
+   */
+  private static final int ENTRIES = 10;
+
+  /**
+   * the offsets that the source was asked for.
+   */
+  private final List<Integer> loads = new ArrayList<>();
+
+  /**
+   * the tasks that were sent to the prefetch executor.
+   */
+  private final List<Runnable> tasks = new ArrayList<>();
+
+  /**
+   * the pagination.
+   */
+  private LazyPagination<Integer> pagination;
+
+  /**
+   * creates the icon of the given amount.
+   *
+   * @param amount the amount of the icon.
+   *
+   * @return a new icon.
+   */
+  @NotNull
+  private static Icon icon(final int amount) {
+    return Icon.from(new ItemStack(Material.DIRT, amount));
+  }
+
+  /**
+   * prepares a pagination of ten entries, three per page, that keeps two pages.
+   */
+  @BeforeEach
+  void setup() {
+    this.pagination = new LazyPagination<>(() -> LazyPaginationTest.ENTRIES, (offset, limit) -> {
+      this.loads.add(offset);
+      return IntStream.range(offset, Math.min(offset + limit, LazyPaginationTest.ENTRIES))
+        .boxed()
+        .collect(Collectors.toList());
+    }, amount -> LazyPaginationTest.icon(amount + 1), 2);
+    this.pagination.setIconsPerPage(3);
+  }
+
+  /**
+   * checks that a disposed pagination does not start new prefetches.
+   */
+  @Test
+  void disposedPaginationsDoNotPrefetch() {
+    this.pagination.prefetch(this.tasks::add);
+    this.pagination.dispose();
+    this.pagination.getPageIcons();
+    Assertions.assertTrue(this.tasks.isEmpty());
+  }
+
+  /**
+   * checks that the fixed icons replace the source and are paged like a basic pagination.
+   */
+  @Test
+  void fixedIconsReplaceTheSource() {
+    this.pagination.getPageIcons();
+    this.pagination.setIcons(LazyPaginationTest.icon(20), LazyPaginationTest.icon(21), LazyPaginationTest.icon(22),
+      LazyPaginationTest.icon(23));
+    final var first = this.pagination.getPageIcons();
+    Assertions.assertEquals(21, first[1].getItem().getAmount());
+    Assertions.assertTrue(this.pagination.next().isLast());
+    final var last = this.pagination.getPageIcons();
+    Assertions.assertEquals(23, last[0].getItem().getAmount());
+    Assertions.assertNull(last[1]);
+    Assertions.assertEquals(List.of(0), this.loads);
+  }
+
+  /**
+   * checks that the invalidated pages are loaded again.
+   */
+  @Test
+  void invalidatedPagesAreLoaded() {
+    this.pagination.getPageIcons();
+    this.pagination.invalidate().getPageIcons();
+    Assertions.assertEquals(List.of(0, 0), this.loads);
+  }
+
+  /**
+   * checks that the least recently used page is dropped when the cache is full.
+   */
+  @Test
+  void leastRecentPagesAreDropped() {
+    this.pagination.getPageIcons();
+    this.pagination.next().getPageIcons();
+    this.pagination.first().getPageIcons();
+    this.pagination.page(2).getPageIcons();
+    this.pagination.first().getPageIcons();
+    this.pagination.page(1).getPageIcons();
+    Assertions.assertEquals(List.of(0, 3, 6, 3), this.loads);
+    Assertions.assertEquals(2, this.pagination.getHits());
+    Assertions.assertEquals(4, this.pagination.getMisses());
+  }
+
+  /**
+   * checks that the neighbor pages are loaded on the executor and taken as hits.
+   */
+  @Test
+  void neighborPagesArePrefetched() {
+    this.pagination.prefetch(this.tasks::add);
+    this.pagination.getPageIcons();
+    Assertions.assertEquals(1, this.tasks.size());
+    this.tasks.remove(0).run();
+    Assertions.assertEquals(List.of(0, 3), this.loads);
+    final var icons = this.pagination.next().getPageIcons();
+    Assertions.assertEquals(4, icons[0].getItem().getAmount());
+    Assertions.assertEquals(List.of(0, 3), this.loads);
+    Assertions.assertEquals(1, this.pagination.getHits());
+    Assertions.assertEquals(1, this.pagination.getMisses());
+    Assertions.assertEquals(1, this.tasks.size());
+  }
+
+  /**
+   * checks that only the current page is loaded and the last page is padded.
+   */
+  @Test
+  void onlyTheCurrentPageIsLoaded() {
+    final var icons = this.pagination.last().getPageIcons();
+    Assertions.assertEquals(List.of(9), this.loads);
+    Assertions.assertEquals(3, icons.length);
+    Assertions.assertEquals(10, icons[0].getItem().getAmount());
+    Assertions.assertNull(icons[1]);
+  }
+}
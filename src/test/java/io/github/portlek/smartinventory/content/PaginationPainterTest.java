@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.stream.IntStream;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link PaginationPainter} repaints the page slots in place and leaves the other slots alone.
+ */
+final class PaginationPainterTest {
+
+  /**
+   * the page icon count.
+   */
+  private static final int ICONS = 12;
+
+  /**
+   * the page icon count of each page.
+   */
+  private static final int ICONS_PER_PAGE = 9;
+
+  /**
+   * the contents of the viewer.
+   */
+  private BasicInventoryContents contents;
+
+  /**
+   * the viewer.
+   */
+  private FakePlayer player;
+
+  /**
+   * opens a page whose first row shows a pagination of twelve icons and whose last row has a static icon.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var inventory = new BasicSmartInventory(server.getPlugin());
+    inventory.init();
+    this.player = server.join("viewer");
+    Page.build(inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+        contents.set(2, 0, Icon.from(new ItemStack(Material.STONE)));
+        contents.pagination()
+          .setIcons(IntStream.rangeClosed(1, PaginationPainterTest.ICONS)
+            .mapToObj(amount -> Icon.from(new ItemStack(Material.DIRT, amount)))
+            .toArray(Icon[]::new))
+          .setIconsPerPage(PaginationPainterTest.ICONS_PER_PAGE)
+          .renderInto(contents.newIterator(SlotIterator.Type.HORIZONTAL, 0, 0));
+      }
+    }).row(3).paginateInPlace(true).open(this.player.getPlayer());
+    this.contents = (BasicInventoryContents) SmartInventory.getHolder(this.player.getPlayer()).orElseThrow()
+      .getContents();
+    this.contents.renderer().resetCounters();
+  }
+
+  /**
+   * checks that going back repaints the page slots that the shorter page cleared.
+   */
+  @Test
+  void clearedSlotsAreRepainted() {
+    this.contents.openNext();
+    this.contents.openPrevious();
+    for (var column = 0; column < PaginationPainterTest.ICONS_PER_PAGE; column++) {
+      Assertions.assertEquals(column + 1, this.player.getTop().getItem(column).getAmount());
+    }
+  }
+
+  /**
+   * checks that the next page is written over the previous one and the slots that it does not fill are cleared.
+   */
+  @Test
+  void pageSlotsAreRepainted() {
+    this.contents.openNext();
+    for (var column = 0; column < PaginationPainterTest.ICONS - PaginationPainterTest.ICONS_PER_PAGE; column++) {
+      Assertions.assertEquals(PaginationPainterTest.ICONS_PER_PAGE + column + 1,
+        this.player.getTop().getItem(column).getAmount());
+    }
+    for (var column = PaginationPainterTest.ICONS - PaginationPainterTest.ICONS_PER_PAGE;
+         column < PaginationPainterTest.ICONS_PER_PAGE; column++) {
+      Assertions.assertNull(this.player.getTop().getItem(column));
+    }
+    Assertions.assertEquals(PaginationPainterTest.ICONS_PER_PAGE, this.contents.renderer().getWritten());
+  }
+
+  /**
+   * checks that the slots outside of the page are not rendered by the repaint.
+   */
+  @Test
+  void staticSlotsAreNotRendered() {
+    this.contents.openNext();
+    Assertions.assertEquals(0, this.contents.renderer().getSkipped());
+    Assertions.assertEquals(Material.STONE, this.player.getTop().getItem(18).getType());
+    Assertions.assertTrue(this.player.isViewing());
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.observer.source.BasicObservable;
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link SlotBinding}s end with their sessions and render on the main thread.
+ */
+final class SlotBindingTest {
+
+  /**
+   * the mapper call count.
+   */
+  private final AtomicInteger renders = new AtomicInteger();
+
+  /**
+   * the observable.
+   */
+  private BasicObservable<Integer> observable;
+
+  /**
+   * the page.
+   */
+  private Page page;
+
+  /**
+   * the fake server.
+   */
+  private FakeServer server;
+
+  /**
+   * prepares the page that binds its first slot to the observable.
+   */
+  @BeforeEach
+  void setup() {
+    this.server = FakeServer.install();
+    this.server.clear();
+    final var inventory = new BasicSmartInventory(this.server.getPlugin());
+    inventory.init();
+    this.observable = new BasicObservable<>(1);
+    this.page = Page.build(inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+        contents.bind(0, 0, SlotBindingTest.this.observable, amount -> {
+          SlotBindingTest.this.renders.incrementAndGet();
+          return Icon.from(new ItemStack(Material.DIRT, amount));
+        });
+      }
+    }).row(3);
+  }
+
+  /**
+   * checks that the changes that are set off the main thread are rendered once on the next tick.
+   *
+   * @throws InterruptedException if the wait is interrupted.
+   */
+  @Test
+  void asyncChangesRenderOnTheNextTick() throws InterruptedException {
+    final var player = this.open("async");
+    final var done = new CountDownLatch(1);
+    Bukkit.getScheduler().runTaskAsynchronously(this.server.getPlugin(), () -> {
+      this.observable.set(2);
+      this.observable.set(3);
+      done.countDown();
+    });
+    Assertions.assertTrue(done.await(5L, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, this.renders.get());
+    Assertions.assertEquals(1, player.getTop().getItem(0).getAmount());
+    this.server.tick();
+    Assertions.assertEquals(2, this.renders.get());
+    Assertions.assertEquals(3, player.getTop().getItem(0).getAmount());
+  }
+
+  /**
+   * checks that closing the session unsubscribes its bindings.
+   */
+  @Test
+  void closedSessionsUnbind() {
+    final var player = this.open("closed");
+    Assertions.assertEquals(1, this.observable.size());
+    player.close();
+    this.observable.set(5);
+    Assertions.assertEquals(0, this.observable.size());
+    Assertions.assertEquals(1, this.renders.get());
+  }
+
+  /**
+   * checks that the bindings of a replaced session are unsubscribed and the new session keeps its own.
+   */
+  @Test
+  void replacedSessionsUnbind() {
+    final var player = this.open("replaced");
+    this.page.open(player.getPlayer());
+    Assertions.assertEquals(1, this.observable.size());
+    this.observable.set(4);
+    Assertions.assertEquals(3, this.renders.get());
+    Assertions.assertEquals(4, player.getTop().getItem(0).getAmount());
+  }
+
+  /**
+   * joins a player and opens the page for them.
+   *
+   * @param name the name of the player.
+   *
+   * @return the joined player.
+   */
+  @NotNull
+  private FakePlayer open(@NotNull final String name) {
+    final var player = this.server.join(name);
+    this.page.open(player.getPlayer());
+    return player;
+  }
+}
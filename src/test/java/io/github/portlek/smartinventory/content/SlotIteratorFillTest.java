@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import io.github.portlek.smartinventory.util.SlotMask;
+import java.util.Arrays;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that {@link SlotIterator#fill(java.util.List, SlotMask)} places the icons, resets the slots of the
+ * {@code null} entries and only marks the slots that got an icon.
+ */
+final class SlotIteratorFillTest {
+
+  /**
+   * the contents.
+   */
+  private InventoryContents contents;
+
+  /**
+   * the icon that is already placed before the fill.
+   */
+  private Icon dirt;
+
+  /**
+   * prepares a 3x9 page with an icon in the fourth slot.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var page = Page.build(new BasicSmartInventory(server.getPlugin()))
+      .row(3);
+    this.contents = new BasicInventoryContents(page, server.join("viewer").getPlayer());
+    this.dirt = Icon.from(new ItemStack(Material.DIRT));
+    this.contents.set(0, 3, this.dirt);
+  }
+
+  /**
+   * checks that the {@code null} entries reset their slots and are not marked as placed.
+   */
+  @Test
+  void nullEntriesResetTheirSlots() {
+    final var stone = Icon.from(new ItemStack(Material.STONE));
+    final var placed = new SlotMask();
+    this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 0, 2)
+      .fill(Arrays.asList(stone, null, stone), placed);
+    Assertions.assertEquals(stone, this.contents.getIcon(0, 2));
+    Assertions.assertNull(this.contents.getIcon(0, 3));
+    Assertions.assertEquals(stone, this.contents.getIcon(0, 4));
+    Assertions.assertEquals(2, placed.size());
+    Assertions.assertFalse(placed.contains(0, 3));
+  }
+
+  /**
+   * checks that the filled slots skip the placed icons if the iterator does not override them.
+   */
+  @Test
+  void placedIconsAreSkipped() {
+    final var stone = Icon.from(new ItemStack(Material.STONE));
+    final var placed = new SlotMask();
+    this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 0, 2)
+      .allowOverride(false)
+      .fill(Arrays.asList(stone, stone), placed);
+    Assertions.assertEquals(this.dirt, this.contents.getIcon(0, 3));
+    Assertions.assertEquals(stone, this.contents.getIcon(0, 4));
+    Assertions.assertTrue(placed.contains(0, 2));
+    Assertions.assertFalse(placed.contains(0, 3));
+    Assertions.assertTrue(placed.contains(0, 4));
+  }
+}
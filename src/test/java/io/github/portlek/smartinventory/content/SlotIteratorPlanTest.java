@@ -0,0 +1,328 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.content;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SlotIterator;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import io.github.portlek.smartinventory.page.BasicPage;
+import io.github.portlek.smartinventory.util.Pattern;
+import io.github.portlek.smartinventory.util.SlotMask;
+import java.util.function.BiPredicate;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks the traversals of the {@link SlotPlan}s against the slot by slot traversal that the iterator used before the
+ * plans, and the sharing of the plans of the equal patterns.
+ */
+final class SlotIteratorPlanTest {
+
+  /**
+   * the column count of the page.
+   */
+  private static final int COLUMNS = 9;
+
+  /**
+   * the upper bound of the steps of a traversal.
+   */
+  private static final int MAX_STEPS = 200;
+
+  /**
+   * the row count of the page.
+   */
+  private static final int ROWS = 6;
+
+  /**
+   * the contents.
+   */
+  private InventoryContents contents;
+
+  /**
+   * the pattern that only allows the inner slots of the page.
+   */
+  private Pattern<Boolean> inner;
+
+  /**
+   * the repeating checkerboard pattern.
+   */
+  private Pattern<Boolean> wrap;
+
+  /**
+   * checks the given pattern at the given position like the iterator did before the plans.
+   *
+   * @param pattern the pattern to check.
+   * @param rowOffset the row offset of the pattern.
+   * @param columnOffset the column offset of the pattern.
+   * @param row the row to check.
+   * @param column the column to check.
+   *
+   * @return {@code true} if the pattern allows the position.
+   */
+  private static boolean check(@NotNull final Pattern<Boolean> pattern, final int rowOffset, final int columnOffset,
+                               final int row, final int column) {
+    if (pattern.isWrapAround()) {
+      return pattern.getObject(row - rowOffset, column - columnOffset).orElse(false);
+    }
+    return row >= rowOffset && column >= columnOffset &&
+      row < pattern.getRowCount() + rowOffset &&
+      column < pattern.getColumnCount() + columnOffset &&
+      pattern.getObject(row - rowOffset, column - columnOffset).orElse(false);
+  }
+
+  /**
+   * creates the pattern that only allows the inner slots of a 6x9 page.
+   *
+   * @return a new pattern.
+   */
+  @NotNull
+  private static Pattern<Boolean> inner() {
+    return new Pattern<Boolean>(
+      "ooooooooo",
+      "oxxxxxxxo",
+      "oxxxxxxxo",
+      "oxxxxxxxo",
+      "oxxxxxxxo",
+      "ooooooooo")
+      .attach('x', true)
+      .attach('o', false);
+  }
+
+  /**
+   * creates a plan key of a horizontal 6x9 traversal with the given pattern.
+   *
+   * @param pattern the pattern of the key.
+   *
+   * @return a new plan key.
+   */
+  @NotNull
+  private static SlotPlanKey key(@NotNull final Pattern<Boolean> pattern) {
+    return new SlotPlanKey(new SlotMask(), null, 0, 0, SlotIteratorPlanTest.COLUMNS, pattern.compile(), 0, 0,
+      SlotIteratorPlanTest.ROWS, SlotIterator.Type.HORIZONTAL);
+  }
+
+  /**
+   * walks the given iterator until it ends.
+   *
+   * @param iterator the iterator to walk.
+   *
+   * @return the visited positions.
+   */
+  @NotNull
+  private static String walk(@NotNull final SlotIterator iterator) {
+    final var builder = new StringBuilder();
+    for (var step = 0; step < SlotIteratorPlanTest.MAX_STEPS && !iterator.ended(); step++) {
+      iterator.next();
+      builder.append(iterator.row()).append(',').append(iterator.column()).append(' ');
+    }
+    return builder.toString();
+  }
+
+  /**
+   * prepares the contents and the patterns.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var page = Page.build(new BasicSmartInventory(server.getPlugin()))
+      .row(SlotIteratorPlanTest.ROWS)
+      .column(SlotIteratorPlanTest.COLUMNS);
+    this.contents = new BasicInventoryContents(page, server.join("viewer").getPlayer());
+    final var dirt = Icon.from(new ItemStack(Material.DIRT));
+    this.contents.set(0, 3, dirt);
+    this.contents.set(2, 2, dirt);
+    this.contents.set(5, 8, dirt);
+    this.inner = SlotIteratorPlanTest.inner();
+    this.wrap = new Pattern<Boolean>(true, "xo", "ox")
+      .attach('x', true);
+  }
+
+  /**
+   * checks the traversals with the blacklists.
+   */
+  @Test
+  void blacklists() {
+    for (final var type : SlotIterator.Type.values()) {
+      final var blacklist = new SlotMask();
+      blacklist.add(1, 1);
+      blacklist.add(2, 2);
+      this.assertSame(type, 0, 0, true, 5, 8, (row, column) ->
+          !blacklist.contains(row, column) && !SlotIteratorPlanTest.check(this.wrap, 0, 0, row, column),
+        this.contents.newIterator(type, 0, 0).blacklistPattern(this.wrap).blacklist(1, 1).blacklist(20));
+      this.assertSame(type, 0, 0, true, 3, 4, (row, column) -> row != 3 || column != 4,
+        this.contents.newIterator(type, 0, 0).endPosition(3, 4).blacklist(3, 4));
+    }
+  }
+
+  /**
+   * checks that the patterns that are equal but not the same share one plan of the page.
+   */
+  @Test
+  void equalPatternsShareThePlan() {
+    final var page = (BasicPage) this.contents.page();
+    final var first = page.plan(SlotIteratorPlanTest.key(SlotIteratorPlanTest.inner()));
+    final var second = page.plan(SlotIteratorPlanTest.key(SlotIteratorPlanTest.inner()));
+    Assertions.assertSame(first, second);
+  }
+
+  /**
+   * checks that an iterator whose pattern is equal to the pattern of a cached plan, but not the same, looks the plan
+   * up once instead of on every step.
+   */
+  @Test
+  void equalPatternsAreLookedUpOnce() {
+    final var page = (BasicPage) this.contents.page();
+    SlotIteratorPlanTest.walk(this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 0, 0)
+      .withPattern(SlotIteratorPlanTest.inner()));
+    final var lookups = page.getPlanLookups();
+    final var steps = SlotIteratorPlanTest.walk(this.contents.newIterator(SlotIterator.Type.HORIZONTAL, 0, 0)
+      .withPattern(SlotIteratorPlanTest.inner()));
+    Assertions.assertFalse(steps.isEmpty());
+    Assertions.assertEquals(lookups + 1, page.getPlanLookups());
+  }
+
+  /**
+   * checks the traversals with the patterns.
+   */
+  @Test
+  void patterns() {
+    for (final var type : SlotIterator.Type.values()) {
+      this.assertSame(type, 1, 1, true, 5, 8, (row, column) ->
+          SlotIteratorPlanTest.check(this.inner, 0, 0, row, column),
+        this.contents.newIterator(type, 1, 1).withPattern(this.inner));
+      this.assertSame(type, 0, 0, true, 5, 8, (row, column) ->
+          SlotIteratorPlanTest.check(this.wrap, 0, 0, row, column),
+        this.contents.newIterator(type, 0, 0).withPattern(this.wrap));
+      this.assertSame(type, 0, 0, true, 5, 8, (row, column) ->
+          SlotIteratorPlanTest.check(this.inner, 1, 2, row, column),
+        this.contents.newIterator(type, 0, 0).withPattern(this.inner, 1, 2));
+    }
+  }
+
+  /**
+   * checks the traversals without any rule.
+   */
+  @Test
+  void plain() {
+    for (final var type : SlotIterator.Type.values()) {
+      this.assertSame(type, 0, 0, true, 5, 8, (row, column) -> true,
+        this.contents.newIterator(type, 0, 0));
+      this.assertSame(type, 2, 4, true, 5, 8, (row, column) -> true,
+        this.contents.newIterator(type, 2, 4));
+      this.assertSame(type, 0, 0, false, 5, 8, (row, column) -> true,
+        this.contents.newIterator(type, 0, 0).allowOverride(false));
+      this.assertSame(type, 1, 0, false, 4, 2, (row, column) -> true,
+        this.contents.newIterator(type, 1, 0).allowOverride(false).endPosition(4, 2));
+    }
+  }
+
+  /**
+   * checks that the given iterator visits the same positions as the slot by slot traversal.
+   *
+   * @param type the type of the traversal.
+   * @param startRow the start row.
+   * @param startColumn the start column.
+   * @param allowOverride the allow override.
+   * @param endRow the end row.
+   * @param endColumn the end column.
+   * @param allowed the static rules of the traversal.
+   * @param iterator the iterator to check.
+   */
+  private void assertSame(@NotNull final SlotIterator.Type type, final int startRow, final int startColumn,
+                          final boolean allowOverride, final int endRow, final int endColumn,
+                          @NotNull final BiPredicate<Integer, Integer> allowed,
+                          @NotNull final SlotIterator iterator) {
+    final var expected = this.reference(type, startRow, startColumn, allowOverride, endRow, endColumn, allowed);
+    Assertions.assertEquals(expected, SlotIteratorPlanTest.walk(iterator), type.name());
+  }
+
+  /**
+   * checks if the slot by slot traversal places at the given position.
+   *
+   * @param row the row to check.
+   * @param column the column to check.
+   * @param allowOverride the allow override.
+   * @param allowed the static rules of the traversal.
+   *
+   * @return {@code true} if an icon can be placed.
+   */
+  private boolean placeable(final int row, final int column, final boolean allowOverride,
+                            @NotNull final BiPredicate<Integer, Integer> allowed) {
+    return allowed.test(row, column) && (allowOverride || this.contents.getIcon(row, column) == null);
+  }
+
+  /**
+   * walks the page slot by slot, like the iterator did before the plans.
+   *
+   * @param type the type of the traversal.
+   * @param startRow the start row.
+   * @param startColumn the start column.
+   * @param allowOverride the allow override.
+   * @param endRow the end row.
+   * @param endColumn the end column.
+   * @param allowed the static rules of the traversal.
+   *
+   * @return the visited positions.
+   */
+  @NotNull
+  private String reference(@NotNull final SlotIterator.Type type, final int startRow, final int startColumn,
+                           final boolean allowOverride, final int endRow, final int endColumn,
+                           @NotNull final BiPredicate<Integer, Integer> allowed) {
+    final var rows = this.contents.page().row();
+    final var columns = this.contents.page().column();
+    final var builder = new StringBuilder();
+    var row = startRow;
+    var column = startColumn;
+    var started = false;
+    for (var step = 0; step < SlotIteratorPlanTest.MAX_STEPS && (row != endRow || column != endColumn); step++) {
+      do {
+        if (!started) {
+          started = true;
+        } else if (type == SlotIterator.Type.HORIZONTAL) {
+          column = (column + 1) % columns;
+          if (column == 0) {
+            row++;
+          }
+        } else {
+          row = (row + 1) % rows;
+          if (row == 0) {
+            column++;
+          }
+        }
+      } while (!this.placeable(row, column, allowOverride, allowed) && (row != endRow || column != endColumn));
+      builder.append(row).append(',').append(column).append(' ');
+    }
+    return builder.toString();
+  }
+}
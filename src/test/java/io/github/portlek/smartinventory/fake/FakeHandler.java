@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.lang.invoke.MethodHandle;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a registered event handler method of the {@link FakePluginManager}.
+ */
+public final class FakeHandler {
+
+  /**
+   * the ignore cancelled.
+   */
+  private final boolean ignoreCancelled;
+
+  /**
+   * the method handle that is bound to the listener.
+   */
+  @NotNull
+  private final MethodHandle method;
+
+  /**
+   * the priority.
+   */
+  @NotNull
+  private final EventPriority priority;
+
+  /**
+   * the type of the events.
+   */
+  @NotNull
+  private final Class<?> type;
+
+  /**
+   * ctor.
+   *
+   * @param type the type of the events.
+   * @param priority the priority.
+   * @param ignoreCancelled the ignore cancelled.
+   * @param method the method handle that is bound to the listener.
+   */
+  public FakeHandler(@NotNull final Class<?> type, @NotNull final EventPriority priority,
+                     final boolean ignoreCancelled, @NotNull final MethodHandle method) {
+    this.type = type;
+    this.priority = priority;
+    this.ignoreCancelled = ignoreCancelled;
+    this.method = method;
+  }
+
+  /**
+   * checks if the handler wants the given event.
+   *
+   * @param event the event to check.
+   *
+   * @return {@code true} if the handler should be invoked.
+   */
+  public boolean accepts(@NotNull final Event event) {
+    if (!this.type.isInstance(event)) {
+      return false;
+    }
+    return !this.ignoreCancelled || !(event instanceof Cancellable) || !((Cancellable) event).isCancelled();
+  }
+
+  /**
+   * obtains the priority.
+   *
+   * @return the priority.
+   */
+  @NotNull
+  public EventPriority getPriority() {
+    return this.priority;
+  }
+
+  /**
+   * invokes the handler.
+   *
+   * @param event the event to invoke.
+   *
+   * @throws Throwable if the handler throws.
+   */
+  public void invoke(@NotNull final Event event) throws Throwable {
+    this.method.invoke(event);
+  }
+}
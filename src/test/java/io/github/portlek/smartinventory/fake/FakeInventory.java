@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a fake {@link Inventory} that keeps its items in an array and counts the slot writes.
+ */
+public final class FakeInventory {
+
+  /**
+   * the holder.
+   */
+  @Nullable
+  private final InventoryHolder holder;
+
+  /**
+   * the inventory.
+   */
+  @NotNull
+  private final Inventory inventory;
+
+  /**
+   * the items.
+   */
+  @NotNull
+  private final ItemStack[] items;
+
+  /**
+   * the type.
+   */
+  @NotNull
+  private final InventoryType type;
+
+  /**
+   * the slot write count.
+   */
+  private final LongAdder writes = new LongAdder();
+
+  /**
+   * ctor.
+   *
+   * @param holder the holder.
+   * @param size the size.
+   * @param type the type.
+   */
+  public FakeInventory(@Nullable final InventoryHolder holder, final int size, @NotNull final InventoryType type) {
+    this.holder = holder;
+    this.items = new ItemStack[size];
+    this.type = type;
+    this.inventory = Fakes.proxy(Inventory.class, Map.ofEntries(
+      Map.entry("clear", args -> {
+        if (args.length == 0) {
+          Arrays.fill(this.items, null);
+        } else {
+          this.items[(int) args[0]] = null;
+        }
+        return null;
+      }),
+      Map.entry("firstEmpty", args -> this.firstEmpty()),
+      Map.entry("getContents", args -> this.items.clone()),
+      Map.entry("getHolder", args -> this.holder),
+      Map.entry("getItem", args -> this.items[(int) args[0]]),
+      Map.entry("getMaxStackSize", args -> 64),
+      Map.entry("getSize", args -> this.items.length),
+      Map.entry("getType", args -> this.type),
+      Map.entry("getViewers", args -> Collections.emptyList()),
+      Map.entry("setItem", args -> {
+        this.items[(int) args[0]] = (ItemStack) args[1];
+        this.writes.increment();
+        return null;
+      })));
+  }
+
+  /**
+   * obtains the inventory.
+   *
+   * @return the inventory.
+   */
+  @NotNull
+  public Inventory getInventory() {
+    return this.inventory;
+  }
+
+  /**
+   * obtains the slot write count.
+   *
+   * @return slot write count.
+   */
+  public long getWrites() {
+    return this.writes.sum();
+  }
+
+  /**
+   * finds the first empty slot.
+   *
+   * @return the first empty slot, or {@code -1}.
+   */
+  private int firstEmpty() {
+    for (var slot = 0; slot < this.items.length; slot++) {
+      if (this.items[slot] == null) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+}
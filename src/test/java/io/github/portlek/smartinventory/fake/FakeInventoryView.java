@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a fake {@link InventoryView} that shows the current inventories of a {@link FakePlayer}.
+ */
+public final class FakeInventoryView extends InventoryView {
+
+  /**
+   * the player.
+   */
+  @NotNull
+  private final FakePlayer player;
+
+  /**
+   * ctor.
+   *
+   * @param player the player.
+   */
+  public FakeInventoryView(@NotNull final FakePlayer player) {
+    this.player = player;
+  }
+
+  @NotNull
+  @Override
+  public Inventory getBottomInventory() {
+    return this.player.getBottom();
+  }
+
+  @NotNull
+  @Override
+  public HumanEntity getPlayer() {
+    return this.player.getPlayer();
+  }
+
+  @NotNull
+  @Override
+  public String getTitle() {
+    return "";
+  }
+
+  @NotNull
+  @Override
+  public Inventory getTopInventory() {
+    return this.player.getTop();
+  }
+
+  @NotNull
+  @Override
+  public InventoryType getType() {
+    return this.player.getTop().getType();
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.util.Map;
+import java.util.UUID;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a fake {@link Player} that opens, closes and clicks inventories, firing the same events as a real server.
+ */
+public final class FakePlayer {
+
+  /**
+   * the crafting inventory, shown as the top inventory when nothing else is open.
+   */
+  @NotNull
+  private final FakeInventory crafting = new FakeInventory(null, 5, InventoryType.CRAFTING);
+
+  /**
+   * the name.
+   */
+  @NotNull
+  private final String name;
+
+  /**
+   * the player.
+   */
+  @NotNull
+  private final Player player;
+
+  /**
+   * the server.
+   */
+  @NotNull
+  private final FakeServer server;
+
+  /**
+   * the storage inventory, shown as the bottom inventory.
+   */
+  @NotNull
+  private final FakeInventory storage = new FakeInventory(null, 36, InventoryType.PLAYER);
+
+  /**
+   * the unique id.
+   */
+  @NotNull
+  private final UUID uniqueId;
+
+  /**
+   * the view.
+   */
+  @NotNull
+  private final InventoryView view;
+
+  /**
+   * the top inventory.
+   */
+  @NotNull
+  private volatile Inventory top = this.crafting.getInventory();
+
+  /**
+   * ctor.
+   *
+   * @param server the server.
+   * @param name the name.
+   * @param uniqueId the unique id.
+   */
+  public FakePlayer(@NotNull final FakeServer server, @NotNull final String name, @NotNull final UUID uniqueId) {
+    this.server = server;
+    this.name = name;
+    this.uniqueId = uniqueId;
+    this.view = new FakeInventoryView(this);
+    this.player = Fakes.proxy(Player.class, Map.ofEntries(
+      Map.entry("closeInventory", args -> {
+        this.close();
+        return null;
+      }),
+      Map.entry("getDisplayName", args -> this.name),
+      Map.entry("getName", args -> this.name),
+      Map.entry("getOpenInventory", args -> this.view),
+      Map.entry("getUniqueId", args -> this.uniqueId),
+      Map.entry("hasPermission", args -> true),
+      Map.entry("isOnline", args -> true),
+      Map.entry("openInventory", args -> {
+        if (args[0] instanceof Inventory) {
+          this.open((Inventory) args[0]);
+        }
+        return this.view;
+      })));
+  }
+
+  /**
+   * clicks the given raw slot of the open view.
+   *
+   * @param rawSlot the raw slot to click, {@code -999} for the outside of the view.
+   * @param click the click type.
+   *
+   * @return the fired event.
+   */
+  @NotNull
+  public InventoryClickEvent click(final int rawSlot, @NotNull final ClickType click) {
+    final var type = rawSlot < 0 ? InventoryType.SlotType.OUTSIDE : InventoryType.SlotType.CONTAINER;
+    final var event = new InventoryClickEvent(this.view, type, rawSlot, click, InventoryAction.PICKUP_ALL);
+    this.server.callEvent(event);
+    return event;
+  }
+
+  /**
+   * closes the top inventory and fires the close event if it is not the crafting inventory.
+   */
+  public void close() {
+    if (this.isViewing()) {
+      this.server.callEvent(new InventoryCloseEvent(this.view));
+    }
+    this.top = this.crafting.getInventory();
+  }
+
+  /**
+   * drags the given item over the given raw slots of the open view.
+   *
+   * @param slots the raw slots and their new items.
+   *
+   * @return the fired event.
+   */
+  @NotNull
+  public InventoryDragEvent drag(@NotNull final Map<Integer, ItemStack> slots) {
+    final var event = new InventoryDragEvent(this.view, null, slots.values().iterator().next(), false, slots);
+    this.server.callEvent(event);
+    return event;
+  }
+
+  /**
+   * obtains the bottom inventory.
+   *
+   * @return the bottom inventory.
+   */
+  @NotNull
+  public Inventory getBottom() {
+    return this.storage.getInventory();
+  }
+
+  /**
+   * obtains the player.
+   *
+   * @return the player.
+   */
+  @NotNull
+  public Player getPlayer() {
+    return this.player;
+  }
+
+  /**
+   * obtains the top inventory.
+   *
+   * @return the top inventory.
+   */
+  @NotNull
+  public Inventory getTop() {
+    return this.top;
+  }
+
+  /**
+   * obtains the unique id.
+   *
+   * @return the unique id.
+   */
+  @NotNull
+  public UUID getUniqueId() {
+    return this.uniqueId;
+  }
+
+  /**
+   * checks if the player views an inventory other than the crafting inventory.
+   *
+   * @return {@code true} if an inventory is open.
+   */
+  public boolean isViewing() {
+    return this.top != this.crafting.getInventory();
+  }
+
+  /**
+   * opens the given inventory as the top inventory, closing the current one first.
+   *
+   * @param inventory the inventory to open.
+   */
+  public void open(@NotNull final Inventory inventory) {
+    this.close();
+    this.top = inventory;
+    final var event = new InventoryOpenEvent(this.view);
+    this.server.callEvent(event);
+    if (event.isCancelled()) {
+      this.top = this.crafting.getInventory();
+    }
+  }
+
+  /**
+   * quits the server.
+   */
+  public void quit() {
+    this.server.quit(this);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a fake {@link PluginManager} that registers the {@link EventHandler} methods of the listeners and fires the events to
+ * them in the order of their priorities, like the real one.
+ */
+public final class FakePluginManager {
+
+  /**
+   * the handlers, sorted by their priorities.
+   */
+  private final List<FakeHandler> handlers = new CopyOnWriteArrayList<>();
+
+  /**
+   * the logger.
+   */
+  @NotNull
+  private final Logger logger;
+
+  /**
+   * the manager.
+   */
+  @NotNull
+  private final PluginManager manager;
+
+  /**
+   * ctor.
+   *
+   * @param logger the logger.
+   */
+  public FakePluginManager(@NotNull final Logger logger) {
+    this.logger = logger;
+    this.manager = Fakes.proxy(PluginManager.class, Map.of(
+      "callEvent", args -> {
+        this.callEvent((Event) args[0]);
+        return null;
+      },
+      "registerEvents", args -> {
+        this.registerEvents((Listener) args[0]);
+        return null;
+      }));
+  }
+
+  /**
+   * fires the given event to the registered handlers.
+   *
+   * @param event the event to fire.
+   */
+  public void callEvent(@NotNull final Event event) {
+    for (final var handler : this.handlers) {
+      if (!handler.accepts(event)) {
+        continue;
+      }
+      try {
+        handler.invoke(event);
+      } catch (final Throwable throwable) {
+        this.logger.log(Level.SEVERE, "Could not pass event " + event.getClass().getSimpleName(), throwable);
+      }
+    }
+  }
+
+  /**
+   * removes all the registered handlers.
+   */
+  public void clear() {
+    this.handlers.clear();
+  }
+
+  /**
+   * obtains the manager.
+   *
+   * @return the manager.
+   */
+  @NotNull
+  public PluginManager getManager() {
+    return this.manager;
+  }
+
+  /**
+   * registers the event handler methods of the given listener.
+   *
+   * @param listener the listener to register.
+   */
+  public synchronized void registerEvents(@NotNull final Listener listener) {
+    final var lookup = MethodHandles.publicLookup();
+    final var sorted = new ArrayList<>(this.handlers);
+    for (final var method : listener.getClass().getMethods()) {
+      final var annotation = method.getAnnotation(EventHandler.class);
+      if (annotation == null || method.getParameterCount() != 1) {
+        continue;
+      }
+      try {
+        sorted.add(new FakeHandler(method.getParameterTypes()[0], annotation.priority(), annotation.ignoreCancelled(),
+          lookup.unreflect(method).bindTo(listener)));
+      } catch (final IllegalAccessException exception) {
+        throw new IllegalStateException("Could not register " + method, exception);
+      }
+    }
+    sorted.sort(Comparator.comparing(FakeHandler::getPriority));
+    this.handlers.clear();
+    this.handlers.addAll(sorted);
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a fake {@link BukkitScheduler} whose ticks are driven by hand through {@link #tick()}.
+ * <p>
+ * the sync tasks and all the timers run on the thread that calls {@link #tick()}, the one-shot async tasks run on a
+ * daemon thread pool, so the code that waits for them does not block the ticking thread.
+ * only the {@link Runnable} overloads of the scheduler are supported.
+ */
+public final class FakeScheduler {
+
+  /**
+   * the executor of the async tasks.
+   */
+  private final ExecutorService async = Executors.newCachedThreadPool(runnable -> {
+    final var thread = new Thread(runnable, "FakeScheduler-Async");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * the task ids.
+   */
+  private final AtomicInteger ids = new AtomicInteger();
+
+  /**
+   * the logger.
+   */
+  @NotNull
+  private final Logger logger;
+
+  /**
+   * the tasks that are scheduled since the last tick.
+   */
+  private final Queue<FakeTask> pending = new ConcurrentLinkedQueue<>();
+
+  /**
+   * the scheduler.
+   */
+  @NotNull
+  private final BukkitScheduler scheduler;
+
+  /**
+   * the tasks that wait for their ticks.
+   */
+  private final List<FakeTask> scheduled = new ArrayList<>();
+
+  /**
+   * the tasks by their ids.
+   */
+  private final Map<Integer, FakeTask> tasks = new ConcurrentHashMap<>();
+
+  /**
+   * the current tick.
+   */
+  private volatile long currentTick;
+
+  /**
+   * ctor.
+   *
+   * @param logger the logger.
+   */
+  public FakeScheduler(@NotNull final Logger logger) {
+    this.logger = logger;
+    this.scheduler = Fakes.proxy(BukkitScheduler.class, Map.of(
+      "cancelTask", args -> {
+        final var task = this.tasks.get((int) args[0]);
+        if (task != null) {
+          task.cancel();
+        }
+        return null;
+      },
+      "isCurrentlyRunning", args -> false,
+      "isQueued", args -> this.tasks.containsKey((int) args[0]),
+      "runTask", args -> this.schedule(args, 0L, 0L, true),
+      "runTaskAsynchronously", args -> this.async(args),
+      "runTaskLater", args -> this.schedule(args, (long) args[2], 0L, true),
+      "runTaskLaterAsynchronously", args -> this.schedule(args, (long) args[2], 0L, false),
+      "runTaskTimer", args -> this.schedule(args, (long) args[2], (long) args[3], true),
+      "runTaskTimerAsynchronously", args -> this.schedule(args, (long) args[2], (long) args[3], false)));
+  }
+
+  /**
+   * obtains the current tick.
+   *
+   * @return the current tick.
+   */
+  public long getCurrentTick() {
+    return this.currentTick;
+  }
+
+  /**
+   * obtains the scheduler.
+   *
+   * @return the scheduler.
+   */
+  @NotNull
+  public BukkitScheduler getScheduler() {
+    return this.scheduler;
+  }
+
+  /**
+   * obtains the count of the tasks that are not cancelled yet.
+   *
+   * @return the task count.
+   */
+  public int size() {
+    return this.tasks.size();
+  }
+
+  /**
+   * advances one tick and runs the tasks that are due.
+   */
+  public void tick() {
+    final var tick = ++this.currentTick;
+    FakeTask added;
+    while ((added = this.pending.poll()) != null) {
+      this.scheduled.add(added);
+    }
+    for (var index = 0; index < this.scheduled.size(); index++) {
+      final var task = this.scheduled.get(index);
+      var keep = false;
+      try {
+        keep = task.run(tick);
+      } catch (final Throwable throwable) {
+        this.logger.log(Level.SEVERE, "Task #" + task.getId() + " threw an exception", throwable);
+      }
+      if (!keep) {
+        this.tasks.remove(task.getId());
+        final var last = this.scheduled.remove(this.scheduled.size() - 1);
+        if (last != task) {
+          this.scheduled.set(index--, last);
+        }
+      }
+    }
+  }
+
+  /**
+   * runs the one-shot async task on the thread pool.
+   *
+   * @param args the arguments of the call.
+   *
+   * @return the task.
+   */
+  @NotNull
+  private Object async(@NotNull final Object[] args) {
+    final var runnable = (Runnable) args[1];
+    final var task = new FakeTask(this.ids.incrementAndGet(), (Plugin) args[0], runnable, 0L, 0L, false);
+    this.tasks.put(task.getId(), task);
+    this.async.execute(() -> {
+      try {
+        task.run(Long.MAX_VALUE);
+      } catch (final Throwable throwable) {
+        this.logger.log(Level.SEVERE, "Async task #" + task.getId() + " threw an exception", throwable);
+      } finally {
+        this.tasks.remove(task.getId());
+      }
+    });
+    return task.getTask();
+  }
+
+  /**
+   * schedules the task of the call to the ticks.
+   *
+   * @param args the arguments of the call.
+   * @param delay the delay in ticks.
+   * @param period the period in ticks, {@code 0} if the task runs once.
+   * @param sync the sync.
+   *
+   * @return the task.
+   */
+  @NotNull
+  private Object schedule(@NotNull final Object[] args, final long delay, final long period, final boolean sync) {
+    final var due = this.currentTick + Math.max(1L, delay);
+    final var task = new FakeTask(this.ids.incrementAndGet(), (Plugin) args[0], (Runnable) args[1], due,
+      period > 0L ? period : 0L, sync);
+    this.tasks.put(task.getId(), task);
+    this.pending.add(task);
+    return task.getTask();
+  }
+}
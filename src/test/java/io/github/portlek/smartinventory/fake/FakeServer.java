@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a fake {@link Server} that is installed into {@link Bukkit} once per jvm.
+ * <p>
+ * the server does not tick by itself, {@link #tick()} runs the scheduled tasks of the next tick. every thread but the
+ * async task threads of the scheduler counts as the main thread.
+ */
+public final class FakeServer {
+
+  /**
+   * the instance.
+   */
+  private static FakeServer instance;
+
+  /**
+   * the logger.
+   */
+  @NotNull
+  private final Logger logger = Logger.getLogger("FakeServer");
+
+  /**
+   * the plugin manager.
+   */
+  @NotNull
+  private final FakePluginManager manager = new FakePluginManager(this.logger);
+
+  /**
+   * the players.
+   */
+  private final Map<UUID, FakePlayer> players = new ConcurrentHashMap<>();
+
+  /**
+   * the plugin.
+   */
+  @NotNull
+  private final Plugin plugin;
+
+  /**
+   * the scheduler.
+   */
+  @NotNull
+  private final FakeScheduler scheduler = new FakeScheduler(this.logger);
+
+  /**
+   * the server.
+   */
+  @NotNull
+  private final Server server;
+
+  /**
+   * ctor.
+   */
+  private FakeServer() {
+    final var factory = Fakes.proxy(ItemFactory.class, Map.of(
+      "equals", args -> args.length == 2 && Objects.equals(args[0], args[1])));
+    this.server = Fakes.proxy(Server.class, Map.ofEntries(
+      Map.entry("createInventory", args -> {
+        final var holder = (InventoryHolder) args[0];
+        if (args[1] instanceof InventoryType) {
+          final var type = (InventoryType) args[1];
+          return new FakeInventory(holder, type.getDefaultSize(), type).getInventory();
+        }
+        return new FakeInventory(holder, (int) args[1], InventoryType.CHEST).getInventory();
+      }),
+      Map.entry("getBukkitVersion", args -> "1.16.5-R0.1-SNAPSHOT"),
+      Map.entry("getItemFactory", args -> factory),
+      Map.entry("getLogger", args -> this.logger),
+      Map.entry("getName", args -> "FakeServer"),
+      Map.entry("getOnlinePlayers", args -> this.getOnlinePlayers()),
+      Map.entry("getPlayer", args -> args[0] instanceof UUID ? this.getPlayer((UUID) args[0]) : null),
+      Map.entry("getPluginManager", args -> this.manager.getManager()),
+      Map.entry("getScheduler", args -> this.scheduler.getScheduler()),
+      Map.entry("getVersion", args -> "fake"),
+      Map.entry("isPrimaryThread", args -> !Thread.currentThread().getName().startsWith("FakeScheduler-Async"))));
+    this.plugin = Fakes.proxy(Plugin.class, Map.of(
+      "getLogger", args -> this.logger,
+      "getName", args -> "SmartInventoryBenchmark",
+      "getServer", args -> this.server,
+      "isEnabled", args -> true));
+  }
+
+  /**
+   * installs the fake server into {@link Bukkit} if it is not installed yet.
+   *
+   * @return the installed fake server.
+   */
+  @NotNull
+  public static synchronized FakeServer install() {
+    if (FakeServer.instance == null) {
+      FakeServer.instance = new FakeServer();
+      Bukkit.setServer(FakeServer.instance.server);
+    }
+    return FakeServer.instance;
+  }
+
+  /**
+   * fires the given event to the registered listeners.
+   *
+   * @param event the event to fire.
+   */
+  public void callEvent(@NotNull final Event event) {
+    this.manager.callEvent(event);
+  }
+
+  /**
+   * removes all the players and the registered listeners.
+   */
+  public void clear() {
+    this.players.clear();
+    this.manager.clear();
+  }
+
+  /**
+   * obtains the online players.
+   *
+   * @return the online players.
+   */
+  @NotNull
+  public Collection<Player> getOnlinePlayers() {
+    final var online = new ArrayList<Player>(this.players.size());
+    this.players.values().forEach(player -> online.add(player.getPlayer()));
+    return Collections.unmodifiableCollection(online);
+  }
+
+  /**
+   * obtains the player.
+   *
+   * @param uniqueId the unique id to obtain.
+   *
+   * @return the player, or {@code null} if the player is not online.
+   */
+  @Nullable
+  public Player getPlayer(@NotNull final UUID uniqueId) {
+    final var player = this.players.get(uniqueId);
+    return player == null ? null : player.getPlayer();
+  }
+
+  /**
+   * obtains the player count.
+   *
+   * @return the player count.
+   */
+  public int getPlayerCount() {
+    return this.players.size();
+  }
+
+  /**
+   * obtains the plugin.
+   *
+   * @return the plugin.
+   */
+  @NotNull
+  public Plugin getPlugin() {
+    return this.plugin;
+  }
+
+  /**
+   * obtains the scheduler.
+   *
+   * @return the scheduler.
+   */
+  @NotNull
+  public FakeScheduler getScheduler() {
+    return this.scheduler;
+  }
+
+  /**
+   * joins a new player.
+   *
+   * @param name the name of the player.
+   *
+   * @return the joined player.
+   */
+  @NotNull
+  public FakePlayer join(@NotNull final String name) {
+    final var player = new FakePlayer(this, name, UUID.randomUUID());
+    this.players.put(player.getUniqueId(), player);
+    return player;
+  }
+
+  /**
+   * quits the given player, firing the quit event before the player leaves.
+   *
+   * @param player the player to quit.
+   */
+  public void quit(@NotNull final FakePlayer player) {
+    this.manager.callEvent(new PlayerQuitEvent(player.getPlayer(), null));
+    this.players.remove(player.getUniqueId());
+  }
+
+  /**
+   * advances one tick.
+   */
+  public void tick() {
+    this.scheduler.tick();
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.util.Map;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * a task of the {@link FakeScheduler}.
+ */
+public final class FakeTask {
+
+  /**
+   * the id.
+   */
+  private final int id;
+
+  /**
+   * the period in ticks, {@code 0} if the task runs once.
+   */
+  private final long period;
+
+  /**
+   * the runnable.
+   */
+  @NotNull
+  private final Runnable runnable;
+
+  /**
+   * the sync.
+   */
+  private final boolean sync;
+
+  /**
+   * the task.
+   */
+  @NotNull
+  private final BukkitTask task;
+
+  /**
+   * the cancelled.
+   */
+  private volatile boolean cancelled;
+
+  /**
+   * the tick that the task runs next.
+   */
+  private long due;
+
+  /**
+   * ctor.
+   *
+   * @param id the id.
+   * @param owner the owner.
+   * @param runnable the runnable.
+   * @param due the tick that the task runs first.
+   * @param period the period in ticks, {@code 0} if the task runs once.
+   * @param sync the sync.
+   */
+  public FakeTask(final int id, @NotNull final Plugin owner, @NotNull final Runnable runnable, final long due,
+                  final long period, final boolean sync) {
+    this.id = id;
+    this.runnable = runnable;
+    this.due = due;
+    this.period = period;
+    this.sync = sync;
+    this.task = Fakes.proxy(BukkitTask.class, Map.of(
+      "cancel", args -> {
+        this.cancel();
+        return null;
+      },
+      "getOwner", args -> owner,
+      "getTaskId", args -> this.id,
+      "isCancelled", args -> this.cancelled,
+      "isSync", args -> this.sync));
+  }
+
+  /**
+   * cancels the task.
+   */
+  public void cancel() {
+    this.cancelled = true;
+  }
+
+  /**
+   * obtains the id.
+   *
+   * @return the id.
+   */
+  public int getId() {
+    return this.id;
+  }
+
+  /**
+   * obtains the task.
+   *
+   * @return the task.
+   */
+  @NotNull
+  public BukkitTask getTask() {
+    return this.task;
+  }
+
+  /**
+   * checks if the task is cancelled.
+   *
+   * @return {@code true} if the task is cancelled.
+   */
+  public boolean isCancelled() {
+    return this.cancelled;
+  }
+
+  /**
+   * runs the task if it is due.
+   *
+   * @param tick the current tick.
+   *
+   * @return {@code true} if the task should stay scheduled.
+   */
+  public boolean run(final long tick) {
+    if (this.cancelled) {
+      return false;
+    }
+    if (this.due > tick) {
+      return true;
+    }
+    this.runnable.run();
+    if (this.period <= 0) {
+      this.cancelled = true;
+      return false;
+    }
+    this.due = tick + this.period;
+    return !this.cancelled;
+  }
+}
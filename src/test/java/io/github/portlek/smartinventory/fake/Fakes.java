@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package io.github.portlek.smartinventory.fake;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * a class that creates {@link Proxy} based fakes of the Bukkit interfaces.
+ * <p>
+ * the methods are answered by their name, the methods without an answer return the default value of their return
+ * type, so only the methods that the library actually calls need an answer.
+ */
+public final class Fakes {
+
+  /**
+   * the empty arguments.
+   */
+  private static final Object[] EMPTY = new Object[0];
+
+  /**
+   * ctor.
+   */
+  private Fakes() {
+  }
+
+  /**
+   * creates a fake of the given interface.
+   *
+   * @param type the interface to fake.
+   * @param answers the answers by method name, they take the arguments of the call.
+   * @param <T> type of the interface.
+   *
+   * @return a fake instance.
+   */
+  @NotNull
+  public static <T> T proxy(@NotNull final Class<T> type,
+                            @NotNull final Map<String, Function<Object[], Object>> answers) {
+    final var name = "Fake" + type.getSimpleName();
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+      final var arguments = args == null ? Fakes.EMPTY : args;
+      final var answer = answers.get(method.getName());
+      if (answer != null) {
+        return answer.apply(arguments);
+      }
+      switch (method.getName()) {
+        case "equals":
+          return arguments.length == 1 && proxy == arguments[0];
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "toString":
+          return name;
+        default:
+          return Fakes.defaultValue(method.getReturnType());
+      }
+    }));
+  }
+
+  /**
+   * obtains the default value of the given type.
+   *
+   * @param type the type to obtain.
+   *
+   * @return the default value, {@code null} for the objects.
+   */
+  @Nullable
+  private static Object defaultValue(@NotNull final Class<?> type) {
+    if (!type.isPrimitive() || type == void.class) {
+      return null;
+    }
+    if (type == boolean.class) {
+      return false;
+    }
+    if (type == char.class) {
+      return '\0';
+    }
+    if (type == long.class) {
+      return 0L;
+    }
+    if (type == float.class) {
+      return 0.0f;
+    }
+    if (type == double.class) {
+      return 0.0d;
+    }
+    if (type == byte.class) {
+      return (byte) 0;
+    }
+    if (type == short.class) {
+      return (short) 0;
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.handle;
+
+import io.github.portlek.smartinventory.Handle;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
+import io.github.portlek.smartinventory.event.PgTickEvent;
+import io.github.portlek.smartinventory.event.PgUpdateEvent;
+import io.github.portlek.smartinventory.event.abs.PageEvent;
+import io.github.portlek.smartinventory.event.abs.SmartEvent;
+import io.github.portlek.smartinventory.event.abs.TickEvent;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link DispatchTable} runs only the handles of the event's type, in the order they were added.
+ */
+final class DispatchTableTest {
+
+  /**
+   * the names of the handles that ran.
+   */
+  private final List<String> calls = new ArrayList<>();
+
+  /**
+   * the contents of the events.
+   */
+  private InventoryContents contents;
+
+  /**
+   * prepares the contents of a page.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var page = Page.build(new BasicSmartInventory(server.getPlugin()));
+    this.contents = new BasicInventoryContents(page, server.join("viewer").getPlayer());
+  }
+
+  /**
+   * checks that adding a handle leaves the previous table as it was.
+   */
+  @Test
+  void addedHandlesCreateNewTables() {
+    final var empty = DispatchTable.<PageEvent>empty();
+    final var table = empty.with(this.handle(PgTickEvent.class, "tick"));
+    Assertions.assertTrue(empty.isEmpty());
+    Assertions.assertEquals(1, table.size());
+    Assertions.assertSame(table, table.withAll(List.of()));
+    empty.accept(new PgTickEvent(this.contents));
+    Assertions.assertTrue(this.calls.isEmpty());
+  }
+
+  /**
+   * checks that the handles of the super types run for the sub types, and the others do not.
+   */
+  @Test
+  void handlesAreFilteredByType() {
+    final var table = DispatchTable.<SmartEvent>empty()
+      .with(this.handle(PgUpdateEvent.class, "update"))
+      .with(this.handle(TickEvent.class, "tick"))
+      .with(this.handle(SmartEvent.class, "any"));
+    table.accept(new PgTickEvent(this.contents));
+    Assertions.assertEquals(List.of("tick", "any"), this.calls);
+    this.calls.clear();
+    table.accept(new PgUpdateEvent(this.contents));
+    Assertions.assertEquals(List.of("update", "any"), this.calls);
+  }
+
+  /**
+   * checks that the handles run in the order they were added, also after the table was compiled.
+   */
+  @Test
+  void handlesRunInAddOrder() {
+    final var table = DispatchTable.<PageEvent>empty()
+      .with(this.handle(PgTickEvent.class, "first"))
+      .withAll(List.of(this.handle(PageEvent.class, "second"), this.handle(PgTickEvent.class, "third")));
+    table.accept(new PgTickEvent(this.contents));
+    table.accept(new PgTickEvent(this.contents));
+    Assertions.assertEquals(List.of("first", "second", "third", "first", "second", "third"), this.calls);
+  }
+
+  /**
+   * creates a handle that records the given name.
+   *
+   * @param type the event type of the handle.
+   * @param name the name to record.
+   * @param <T> type of the event.
+   *
+   * @return a new handle.
+   */
+  @NotNull
+  private <T extends SmartEvent> Handle<T> handle(@NotNull final Class<T> type, @NotNull final String name) {
+    return Handle.from(type, event -> this.calls.add(name));
+  }
+}
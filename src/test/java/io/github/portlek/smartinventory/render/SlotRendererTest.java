@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.render;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakeInventory;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.Map;
+import org.bukkit.Material;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link SlotRenderer} skips the unchanged slots and repaints the ones that were changed without it.
+ */
+final class SlotRendererTest {
+
+  /**
+   * the inventory.
+   */
+  private FakeInventory inventory;
+
+  /**
+   * the renderer.
+   */
+  private SlotRenderer renderer;
+
+  /**
+   * the fake server.
+   */
+  private FakeServer server;
+
+  /**
+   * prepares an empty renderer and inventory.
+   */
+  @BeforeEach
+  void setup() {
+    this.server = FakeServer.install();
+    this.server.clear();
+    this.inventory = new FakeInventory(null, 27, InventoryType.CHEST);
+    this.renderer = new SlotRenderer();
+  }
+
+  /**
+   * checks that a slot which was changed by a click handler is written again by the next render.
+   */
+  @Test
+  void clickedSlotsAreRepainted() {
+    final var manager = new BasicSmartInventory(this.server.getPlugin());
+    manager.init();
+    final var player = this.server.join("clicker");
+    final var page = Page.build(manager, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+        contents.set(0, 0, Icon.click(new ItemStack(Material.DIRT), event ->
+          player.getTop().setItem(0, new ItemStack(Material.STONE))));
+      }
+    }).row(3);
+    page.open(player.getPlayer());
+    player.click(0, ClickType.LEFT);
+    Assertions.assertEquals(Material.STONE, player.getTop().getItem(0).getType());
+    final var contents = SmartInventory.getHolder(player.getPlayer()).orElseThrow().getContents();
+    contents.set(0, 0, Icon.from(new ItemStack(Material.DIRT)));
+    Assertions.assertEquals(Material.DIRT, player.getTop().getItem(0).getType());
+  }
+
+  /**
+   * checks that a slot which was changed by a drag is written again by the next render.
+   */
+  @Test
+  void draggedSlotsAreRepainted() {
+    final var manager = new BasicSmartInventory(this.server.getPlugin());
+    manager.init();
+    final var player = this.server.join("dragger");
+    Page.build(manager, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+        contents.set(0, 0, Icon.drag(new ItemStack(Material.DIRT), event ->
+          player.getTop().setItem(0, new ItemStack(Material.STONE))));
+      }
+    }).row(3).open(player.getPlayer());
+    player.drag(Map.of(0, new ItemStack(Material.STONE)));
+    Assertions.assertEquals(Material.STONE, player.getTop().getItem(0).getType());
+    final var contents = SmartInventory.getHolder(player.getPlayer()).orElseThrow().getContents();
+    contents.set(0, 0, Icon.from(new ItemStack(Material.DIRT)));
+    Assertions.assertEquals(Material.DIRT, player.getTop().getItem(0).getType());
+  }
+
+  /**
+   * checks that the forced renders are always written and forget the pushed item.
+   */
+  @Test
+  void forcedSlotsAreWritten() {
+    final var item = new ItemStack(Material.DIRT);
+    this.renderer.render(this.inventory.getInventory(), 0, item, false);
+    Assertions.assertTrue(this.renderer.render(this.inventory.getInventory(), 0, item, true));
+    Assertions.assertTrue(this.renderer.render(this.inventory.getInventory(), 0, item, false));
+    Assertions.assertEquals(3, this.inventory.getWrites());
+    Assertions.assertEquals(0, this.renderer.getSkipped());
+  }
+
+  /**
+   * checks that an item which was mutated after it was pushed is written again.
+   */
+  @Test
+  void mutatedItemsAreWritten() {
+    final var item = new ItemStack(Material.DIRT);
+    this.renderer.render(this.inventory.getInventory(), 0, item, false);
+    item.setAmount(2);
+    Assertions.assertTrue(this.renderer.render(this.inventory.getInventory(), 0, item, false));
+    Assertions.assertEquals(2, this.inventory.getWrites());
+  }
+
+  /**
+   * checks that the equal items are written once.
+   */
+  @Test
+  void unchangedSlotsAreSkipped() {
+    this.renderer.render(this.inventory.getInventory(), 0, new ItemStack(Material.DIRT), false);
+    Assertions.assertFalse(this.renderer.render(this.inventory.getInventory(), 0, new ItemStack(Material.DIRT), false));
+    this.renderer.render(this.inventory.getInventory(), 1, null, false);
+    Assertions.assertFalse(this.renderer.render(this.inventory.getInventory(), 1, null, false));
+    Assertions.assertEquals(2, this.inventory.getWrites());
+    Assertions.assertEquals(2, this.renderer.getSkipped());
+    Assertions.assertEquals(2, this.renderer.getWritten());
+  }
+}
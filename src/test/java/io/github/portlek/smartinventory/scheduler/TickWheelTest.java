@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.scheduler;
+
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartHolder;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link TickWheel} dispatches the sessions on their due ticks, within its budget and spread across
+ * their period.
+ */
+final class TickWheelTest {
+
+  /**
+   * the holder of an open page.
+   */
+  private SmartHolder holder;
+
+  /**
+   * the wheel, driven by the test.
+   */
+  private TickWheel wheel;
+
+  /**
+   * opens a page and prepares a sync wheel that is driven by calling {@link TickWheel#run()}.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var inventory = new BasicSmartInventory(server.getPlugin());
+    inventory.init();
+    final var player = server.join("viewer").getPlayer();
+    Page.build(inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+      }
+    }).row(3).open(player);
+    this.holder = SmartInventory.getHolder(player).orElseThrow();
+    this.wheel = new TickWheel(false, server.getPlugin());
+  }
+
+  /**
+   * checks that the cancelled sessions are dropped.
+   */
+  @Test
+  void cancelledSessionsAreDropped() {
+    final var session = new TickSession(0L, this.holder, 1L);
+    this.wheel.add(session);
+    this.wheel.run();
+    session.cancel();
+    this.run(3);
+    Assertions.assertEquals(1, this.wheel.getDispatched());
+  }
+
+  /**
+   * checks that the sessions start after their delay and run once per period.
+   */
+  @Test
+  void delayedSessionsRunEachPeriod() {
+    this.add(1, 2L, 3L);
+    this.run(2);
+    Assertions.assertEquals(0, this.wheel.getDispatched());
+    this.wheel.run();
+    Assertions.assertEquals(1, this.wheel.getDispatched());
+    this.run(3);
+    Assertions.assertEquals(2, this.wheel.getDispatched());
+  }
+
+  /**
+   * checks that a budget that is shorter than a dispatch still dispatches one session per driver tick.
+   */
+  @Test
+  void exhaustedBudgetsDispatchOnce() {
+    this.wheel.setBudget(1L);
+    this.add(3, 0L, 1L);
+    this.wheel.run();
+    Assertions.assertEquals(1, this.wheel.getDispatched());
+    Assertions.assertEquals(2, this.wheel.getDeferred());
+    this.wheel.run();
+    Assertions.assertEquals(2, this.wheel.getDispatched());
+  }
+
+  /**
+   * checks that the sessions whose period is longer than the wheel wait for their due tick.
+   */
+  @Test
+  void longPeriodsWaitForTheirTick() {
+    this.add(1, 0L, 600L);
+    this.run(600);
+    Assertions.assertEquals(1, this.wheel.getDispatched());
+    this.wheel.run();
+    Assertions.assertEquals(2, this.wheel.getDispatched());
+  }
+
+  /**
+   * checks that the sessions without a period run once.
+   */
+  @Test
+  void oneShotSessionsRunOnce() {
+    this.add(2, 1L, 0L);
+    this.run(5);
+    Assertions.assertEquals(2, this.wheel.getDispatched());
+  }
+
+  /**
+   * checks that the sessions of the same period are staggered across the ticks of the period.
+   */
+  @Test
+  void spreadSessionsAreStaggered() {
+    this.wheel.setSpread(true);
+    this.add(4, 0L, 4L);
+    for (var tick = 1; tick <= 8; tick++) {
+      this.wheel.run();
+      Assertions.assertEquals(tick, this.wheel.getDispatched());
+    }
+    Assertions.assertEquals(0, this.wheel.getDeferred());
+  }
+
+  /**
+   * checks that the sessions of the same period run together without the spread.
+   */
+  @Test
+  void unspreadSessionsRunTogether() {
+    this.add(4, 0L, 4L);
+    this.wheel.run();
+    Assertions.assertEquals(4, this.wheel.getDispatched());
+    this.run(3);
+    Assertions.assertEquals(4, this.wheel.getDispatched());
+    this.wheel.run();
+    Assertions.assertEquals(8, this.wheel.getDispatched());
+  }
+
+  /**
+   * adds the given count of sessions of the open page to the wheel.
+   *
+   * @param count the session count to add.
+   * @param delay the start delay of the sessions.
+   * @param period the period of the sessions.
+   */
+  private void add(final int count, final long delay, final long period) {
+    for (var index = 0; index < count; index++) {
+      this.wheel.add(new TickSession(delay, this.holder, period));
+    }
+  }
+
+  /**
+   * runs the given count of driver ticks.
+   *
+   * @param ticks the tick count to run.
+   */
+  private void run(final int ticks) {
+    for (var tick = 0; tick < ticks; tick++) {
+      this.wheel.run();
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.scheduler;
+
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link UpdateCoalescer} runs one update per open session on the next tick.
+ */
+final class UpdateCoalescerTest {
+
+  /**
+   * the provider update count.
+   */
+  private final AtomicInteger updates = new AtomicInteger();
+
+  /**
+   * the inventory manager.
+   */
+  private SmartInventory inventory;
+
+  /**
+   * the page.
+   */
+  private Page page;
+
+  /**
+   * the fake server.
+   */
+  private FakeServer server;
+
+  /**
+   * prepares the page and enables the coalescing.
+   */
+  @BeforeEach
+  void setup() {
+    this.server = FakeServer.install();
+    this.server.clear();
+    this.inventory = new BasicSmartInventory(this.server.getPlugin());
+    this.inventory.init();
+    this.inventory.updates().setEnabled(true);
+    this.page = Page.build(this.inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+      }
+
+      @Override
+      public void update(@NotNull final InventoryContents contents) {
+        UpdateCoalescerTest.this.updates.incrementAndGet();
+      }
+    }).row(3);
+  }
+
+  /**
+   * checks that the closed sessions are dropped from the pending updates and never updated.
+   */
+  @Test
+  void closedSessionsAreSkipped() {
+    final var player = this.open("closed");
+    this.contents(player).notifyUpdate();
+    Assertions.assertEquals(1, this.inventory.updates().getPending());
+    this.page.close(player.getPlayer());
+    Assertions.assertEquals(0, this.inventory.updates().getPending());
+    this.server.tick();
+    Assertions.assertEquals(0, this.updates.get());
+  }
+
+  /**
+   * checks that the requests of the same tick run one update per session.
+   */
+  @Test
+  void requestsAreCoalesced() {
+    final var first = this.contents(this.open("first"));
+    final var second = this.contents(this.open("second"));
+    for (var index = 0; index < 50; index++) {
+      first.notifyUpdate();
+      second.notifyUpdate();
+    }
+    Assertions.assertEquals(0, this.updates.get());
+    this.server.tick();
+    Assertions.assertEquals(2, this.updates.get());
+    Assertions.assertEquals(100L, this.inventory.updates().getRequested());
+    Assertions.assertEquals(2L, this.inventory.updates().getExecuted());
+  }
+
+  /**
+   * checks that the contents that are replaced by another open before the drain are not updated.
+   */
+  @Test
+  void replacedSessionsAreSkipped() {
+    final var player = this.open("replaced");
+    final var previous = this.contents(player);
+    previous.notifyUpdate();
+    this.page.open(player.getPlayer());
+    this.server.tick();
+    Assertions.assertEquals(0, this.updates.get());
+    Assertions.assertFalse(this.contents(player) == previous);
+  }
+
+  /**
+   * obtains the open contents of the given player.
+   *
+   * @param player the player to obtain.
+   *
+   * @return the open contents.
+   */
+  @NotNull
+  private InventoryContents contents(@NotNull final FakePlayer player) {
+    return SmartInventory.getHolder(player.getPlayer()).orElseThrow().getContents();
+  }
+
+  /**
+   * joins a player and opens the page for them.
+   *
+   * @param name the name of the player.
+   *
+   * @return the joined player.
+   */
+  @NotNull
+  private FakePlayer open(@NotNull final String name) {
+    final var player = this.server.join(name);
+    this.page.open(player.getPlayer());
+    return player;
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.session;
+
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartHolder;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link SessionRegistry} indexes the open sessions and ends the closed and replaced ones.
+ */
+final class SessionRegistryTest {
+
+  /**
+   * the first page.
+   */
+  private Page first;
+
+  /**
+   * the inventory manager.
+   */
+  private SmartInventory inventory;
+
+  /**
+   * the second page.
+   */
+  private Page second;
+
+  /**
+   * the fake server.
+   */
+  private FakeServer server;
+
+  /**
+   * creates an empty provider.
+   *
+   * @return a new provider.
+   */
+  @NotNull
+  private static InventoryProvider provider() {
+    return new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+      }
+    };
+  }
+
+  /**
+   * prepares two pages of different providers.
+   */
+  @BeforeEach
+  void setup() {
+    this.server = FakeServer.install();
+    this.server.clear();
+    this.inventory = new BasicSmartInventory(this.server.getPlugin());
+    this.inventory.init();
+    this.first = Page.build(this.inventory, SessionRegistryTest.provider()).id("first").row(3);
+    this.second = Page.build(this.inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+      }
+    }).id("second").row(3);
+  }
+
+  /**
+   * checks that closing a session removes it from all the indexes and ends its contents.
+   */
+  @Test
+  void closedSessionsAreRemoved() {
+    final var player = this.open(this.first, "closed");
+    final var holder = this.holder(player);
+    player.close();
+    final var sessions = this.inventory.getSessions();
+    Assertions.assertTrue(sessions.all().isEmpty());
+    Assertions.assertTrue(sessions.byPage("first").isEmpty());
+    Assertions.assertTrue(sessions.byProvider(this.first.provider().getClass()).isEmpty());
+    Assertions.assertTrue(sessions.get(player.getUniqueId()).isEmpty());
+    Assertions.assertFalse(holder.getContents().isViewed());
+  }
+
+  /**
+   * checks that the open sessions are indexed by player, page id and provider class.
+   */
+  @Test
+  void openSessionsAreIndexed() {
+    final var alice = this.open(this.first, "alice");
+    this.open(this.first, "bob");
+    this.open(this.second, "carol");
+    final var sessions = this.inventory.getSessions();
+    Assertions.assertEquals(3, sessions.all().size());
+    Assertions.assertEquals(2, sessions.byPage("first").size());
+    Assertions.assertEquals(1, sessions.byPage("second").size());
+    Assertions.assertEquals(2, sessions.byProvider(this.first.provider().getClass()).size());
+    Assertions.assertEquals(1, sessions.byProvider(this.second.provider().getClass()).size());
+    Assertions.assertSame(this.holder(alice), sessions.get(alice.getUniqueId()).orElseThrow());
+    Assertions.assertEquals(3, SmartInventory.getHolders().size());
+  }
+
+  /**
+   * checks that opening another page replaces the session of the player and ends the previous one.
+   */
+  @Test
+  void replacedSessionsAreEnded() {
+    final var player = this.open(this.first, "replaced");
+    final var previous = this.holder(player);
+    this.second.open(player.getPlayer());
+    final var current = this.holder(player);
+    final var sessions = this.inventory.getSessions();
+    Assertions.assertNotSame(previous, current);
+    Assertions.assertTrue(sessions.byPage("first").isEmpty());
+    Assertions.assertEquals(1, sessions.byPage("second").size());
+    Assertions.assertSame(current, sessions.get(player.getUniqueId()).orElseThrow());
+    Assertions.assertFalse(previous.getContents().isViewed());
+    Assertions.assertTrue(current.getContents().isViewed());
+  }
+
+  /**
+   * checks that closing a holder that was already replaced keeps the current session.
+   */
+  @Test
+  void staleClosesAreIgnored() {
+    final var player = this.open(this.first, "stale");
+    final var previous = this.holder(player);
+    this.second.open(player.getPlayer());
+    final var sessions = this.inventory.getSessions();
+    sessions.close(previous);
+    Assertions.assertSame(this.holder(player), sessions.get(player.getUniqueId()).orElseThrow());
+    Assertions.assertEquals(1, sessions.byPage("second").size());
+  }
+
+  /**
+   * obtains the open holder of the given player.
+   *
+   * @param player the player to obtain.
+   *
+   * @return the open holder.
+   */
+  @NotNull
+  private SmartHolder holder(@NotNull final FakePlayer player) {
+    return SmartInventory.getHolder(player.getPlayer()).orElseThrow();
+  }
+
+  /**
+   * joins a player and opens the given page for them.
+   *
+   * @param page the page to open.
+   * @param name the name of the player.
+   *
+   * @return the joined player.
+   */
+  @NotNull
+  private FakePlayer open(@NotNull final Page page, @NotNull final String name) {
+    final var player = this.server.join(name);
+    page.open(player.getPlayer());
+    return player;
+  }
+}
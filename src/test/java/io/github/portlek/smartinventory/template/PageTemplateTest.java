@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.template;
+
+import io.github.portlek.smartinventory.Icon;
+import io.github.portlek.smartinventory.InventoryContents;
+import io.github.portlek.smartinventory.InventoryProvider;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.SmartInventory;
+import io.github.portlek.smartinventory.fake.FakePlayer;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the sessions of a page share the icons of its {@link PageTemplate} and change them only in their own
+ * overlay.
+ */
+final class PageTemplateTest {
+
+  /**
+   * the first viewer.
+   */
+  private FakePlayer alice;
+
+  /**
+   * the second viewer.
+   */
+  private FakePlayer bob;
+
+  /**
+   * the page.
+   */
+  private Page page;
+
+  /**
+   * obtains the contents of the given viewer.
+   *
+   * @param player the viewer.
+   *
+   * @return the contents.
+   */
+  @NotNull
+  private static InventoryContents contents(@NotNull final FakePlayer player) {
+    return SmartInventory.getHolder(player.getPlayer()).orElseThrow().getContents();
+  }
+
+  /**
+   * opens a page whose template puts ten dirt into the first slot for two viewers.
+   */
+  @BeforeEach
+  void setup() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var inventory = new BasicSmartInventory(server.getPlugin());
+    inventory.init();
+    this.page = Page.build(inventory, new InventoryProvider() {
+      @Override
+      public void init(@NotNull final InventoryContents contents) {
+      }
+    }).row(3).template(contents -> contents.set(0, 0, Icon.from(new ItemStack(Material.DIRT, 10))));
+    this.alice = server.join("alice");
+    this.bob = server.join("bob");
+    this.page.open(this.alice.getPlayer());
+    this.page.open(this.bob.getPlayer());
+  }
+
+  /**
+   * checks that a slot that was set by a session covers the template only in that session until it is reset.
+   */
+  @Test
+  void overlaysArePerSession() {
+    final var contents = PageTemplateTest.contents(this.alice);
+    contents.set(0, 0, Icon.from(new ItemStack(Material.STONE)));
+    Assertions.assertEquals(Material.STONE, this.alice.getTop().getItem(0).getType());
+    Assertions.assertEquals(Material.DIRT, this.bob.getTop().getItem(0).getType());
+    contents.reset(0, 0);
+    Assertions.assertEquals(Material.DIRT, this.alice.getTop().getItem(0).getType());
+    Assertions.assertSame(this.page.template().orElseThrow().getIcon(0, 0), contents.getIcon(0, 0));
+  }
+
+  /**
+   * checks that removing a part of a template icon changes only the session that removed it.
+   */
+  @Test
+  void removedAmountsStayInTheSession() {
+    PageTemplateTest.contents(this.alice).removeAmount(new ItemStack(Material.DIRT), 3);
+    Assertions.assertEquals(7, this.alice.getTop().getItem(0).getAmount());
+    Assertions.assertEquals(10, this.bob.getTop().getItem(0).getAmount());
+    Assertions.assertEquals(10, this.page.template().orElseThrow().getIcon(0, 0).getItem().getAmount());
+    PageTemplateTest.contents(this.bob).refresh(0, 0);
+    Assertions.assertEquals(10, this.bob.getTop().getItem(0).getAmount());
+  }
+
+  /**
+   * checks that the sessions share the icons of the template.
+   */
+  @Test
+  void templateIconsAreShared() {
+    final var icon = PageTemplateTest.contents(this.alice).getIcon(0, 0);
+    Assertions.assertNotNull(icon);
+    Assertions.assertSame(icon, PageTemplateTest.contents(this.bob).getIcon(0, 0));
+    Assertions.assertEquals(10, this.alice.getTop().getItem(0).getAmount());
+    Assertions.assertEquals(10, this.bob.getTop().getItem(0).getAmount());
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link CompiledPattern} resolves the same values as the mapping of its {@link Pattern} and is
+ * cached until the pattern changes.
+ */
+final class CompiledPatternTest {
+
+  /**
+   * creates a 2x3 pattern that maps {@code x} and {@code o} to themselves and leaves {@code -} unmapped.
+   *
+   * @param wrapAround the wrap around of the pattern.
+   *
+   * @return a new pattern.
+   */
+  @NotNull
+  private static Pattern<String> pattern(final boolean wrapAround) {
+    return new Pattern<String>(wrapAround, "xo-", "ox-")
+      .attach('x', "x")
+      .attach('o', "o");
+  }
+
+  /**
+   * checks that the bounded patterns reject the positions outside of them.
+   */
+  @Test
+  void boundedPatternsRejectOutsidePositions() {
+    final var compiled = CompiledPatternTest.pattern(false).compile();
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> compiled.getObject(2, 0));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> compiled.getObject(0, -1));
+  }
+
+  /**
+   * checks that the compiled pattern is reused until the mapping or the default value changes.
+   */
+  @Test
+  void compiledPatternsAreCachedUntilChanged() {
+    final var pattern = CompiledPatternTest.pattern(false);
+    final var compiled = pattern.compile();
+    Assertions.assertSame(compiled, pattern.compile());
+    pattern.setDefault("default");
+    final var defaulted = pattern.compile();
+    Assertions.assertNotSame(compiled, defaulted);
+    Assertions.assertEquals("default", defaulted.getObject(0, 2));
+    pattern.attach('-', "-");
+    Assertions.assertEquals("-", pattern.compile().getObject(1, 2));
+  }
+
+  /**
+   * checks that the patterns that are built again compile to equal snapshots.
+   */
+  @Test
+  void equalPatternsCompileEqual() {
+    final var first = CompiledPatternTest.pattern(false).compile();
+    final var second = CompiledPatternTest.pattern(false).compile();
+    Assertions.assertEquals(first, second);
+    Assertions.assertEquals(first.hashCode(), second.hashCode());
+    Assertions.assertNotEquals(first, CompiledPatternTest.pattern(true).compile());
+  }
+
+  /**
+   * checks that the compiled values match the mapping and the unmapped characters have no value.
+   */
+  @Test
+  void valuesMatchTheMapping() {
+    final var compiled = CompiledPatternTest.pattern(false).compile();
+    Assertions.assertEquals(2, compiled.getRowCount());
+    Assertions.assertEquals(3, compiled.getColumnCount());
+    Assertions.assertEquals("x", compiled.getObject(0, 0));
+    Assertions.assertEquals("o", compiled.getObject(0, 1));
+    Assertions.assertEquals("x", compiled.getObject(1, 1));
+    Assertions.assertNull(compiled.getObject(1, 2));
+  }
+
+  /**
+   * checks that the wrapping patterns repeat in both directions.
+   */
+  @Test
+  void wrappingPatternsRepeat() {
+    final var compiled = CompiledPatternTest.pattern(true).compile();
+    Assertions.assertEquals("x", compiled.getObject(2, 0));
+    Assertions.assertEquals("o", compiled.getObject(-1, 0));
+    Assertions.assertEquals("x", compiled.getObject(-1, -2));
+    Assertions.assertNull(compiled.getObject(4, 5));
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks the slot tracking of the {@link SlotMask} in both of its words and at its bounds.
+ */
+final class SlotMaskTest {
+
+  /**
+   * checks that a copy is equal to its mask and changes apart from it.
+   */
+  @Test
+  void copiesAreIndependent() {
+    final var mask = new SlotMask();
+    mask.add(2, 4);
+    final var copy = mask.copy();
+    Assertions.assertEquals(mask, copy);
+    copy.add(3, 4);
+    Assertions.assertFalse(mask.contains(3, 4));
+    Assertions.assertNotEquals(mask, copy);
+    mask.addAll(copy);
+    Assertions.assertEquals(mask, copy);
+  }
+
+  /**
+   * checks that the slots of both words are added and removed.
+   */
+  @Test
+  void highAndLowSlotsAreTracked() {
+    final var mask = new SlotMask();
+    mask.add(0, 0);
+    mask.add(7, 0);
+    mask.add(SlotPos.of(13, 8));
+    Assertions.assertTrue(mask.contains(0, 0));
+    Assertions.assertTrue(mask.contains(7, 0));
+    Assertions.assertTrue(mask.contains(SlotPos.of(13, 8)));
+    Assertions.assertFalse(mask.contains(7, 1));
+    Assertions.assertEquals(3, mask.size());
+    mask.remove(7, 0);
+    Assertions.assertFalse(mask.contains(7, 0));
+    Assertions.assertEquals(2, mask.size());
+    mask.clear();
+    Assertions.assertTrue(mask.isEmpty());
+  }
+
+  /**
+   * checks that the positions outside of the mask are ignored.
+   */
+  @Test
+  void outOfRangeSlotsAreIgnored() {
+    final var mask = new SlotMask();
+    mask.add(-1, 0);
+    mask.add(0, -1);
+    mask.add(0, SlotPos.COLUMNS);
+    mask.add(14, 2);
+    Assertions.assertTrue(mask.isEmpty());
+    Assertions.assertFalse(mask.contains(14, 2));
+    Assertions.assertFalse(mask.contains(0, SlotPos.COLUMNS));
+    Assertions.assertTrue(SlotMask.fits(14, 1));
+    Assertions.assertFalse(SlotMask.fits(14, 2));
+  }
+
+  /**
+   * checks that the rects and the patterns set and clear their slots.
+   */
+  @Test
+  void rectsAndPatternsSetTheirSlots() {
+    final var mask = new SlotMask();
+    mask.addRect(1, 1, 2, 3);
+    Assertions.assertEquals(6, mask.size());
+    Assertions.assertTrue(mask.contains(2, 3));
+    Assertions.assertFalse(mask.contains(3, 3));
+    mask.setPattern(new Pattern<Boolean>("xo")
+      .attach('x', true)
+      .attach('o', false), 2, 2);
+    Assertions.assertTrue(mask.contains(2, 2));
+    Assertions.assertFalse(mask.contains(2, 3));
+    Assertions.assertEquals(5, mask.size());
+    mask.setRect(1, 1, 2, 3, false);
+    Assertions.assertTrue(mask.isEmpty());
+  }
+}
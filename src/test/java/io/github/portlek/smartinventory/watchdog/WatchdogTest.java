@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2021 Hasan Demirtaş
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package io.github.portlek.smartinventory.watchdog;
+
+import io.github.portlek.smartinventory.Handle;
+import io.github.portlek.smartinventory.Page;
+import io.github.portlek.smartinventory.content.BasicInventoryContents;
+import io.github.portlek.smartinventory.event.PgTickEvent;
+import io.github.portlek.smartinventory.fake.FakeServer;
+import io.github.portlek.smartinventory.manager.BasicSmartInventory;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * checks that the {@link Watchdog} reports the slow page handlers one by one.
+ */
+final class WatchdogTest {
+
+  /**
+   * checks that only the slow handler of a page event is recorded, with its own class.
+   */
+  @Test
+  void slowHandlersAreAttributed() {
+    final var server = FakeServer.install();
+    server.clear();
+    final var inventory = new BasicSmartInventory(server.getPlugin());
+    final var watchdog = inventory.watchdog();
+    watchdog.setThreshold(5L);
+    watchdog.setEnabled(true);
+    final Consumer<PgTickEvent> fast = event -> {
+    };
+    final Consumer<PgTickEvent> slow = event -> {
+      try {
+        Thread.sleep(20L);
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    };
+    final var page = Page.build(inventory)
+      .id("watched")
+      .handle(Handle.from(PgTickEvent.class, fast))
+      .handle(Handle.from(PgTickEvent.class, slow));
+    page.accept(new PgTickEvent(new BasicInventoryContents(page, server.join("watched").getPlayer())));
+    final var calls = watchdog.dump();
+    Assertions.assertEquals(1, calls.size());
+    final var call = calls.get(0);
+    Assertions.assertEquals(WatchPoint.PAGE_ACCEPT, call.getPoint());
+    Assertions.assertEquals("watched", call.getPage());
+    Assertions.assertEquals(PgTickEvent.class, call.getEvent());
+    Assertions.assertEquals(slow.getClass(), call.getHandler());
+  }
+}